@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ImmutableArraySet;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares the heap retained by the tags, medical history and checkup sets of patients when each set is a
+ * {@code HashSet}, as {@code Person} used to hold them, with that retained by {@link ImmutableArraySet}s.
+ * Both measure the sets alone; the elements are shared with the generated persons.
+ *
+ * Heap footprint is not something JMH measures, so this is run directly, e.g. with
+ * {@code java -cp <jmh classpath> seedu.address.benchmark.PersonCollectionsFootprint 100000}.
+ */
+public class PersonCollectionsFootprint {
+
+    private static final int DEFAULT_SIZE = 100_000;
+
+    private PersonCollectionsFootprint() {}
+
+    /**
+     * Prints the heap retained by the sets of {@code args[0]} (default 100000) synthetic patients in both forms.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        // one in ten synthetic persons is a nurse
+        List<Person> patients = SyntheticPersons.generate(size + size / 9 + 1, 42).stream()
+                .filter(Person::isPatient)
+                .limit(size)
+                .collect(Collectors.toList());
+
+        long baseline = usedHeap();
+        List<Set<?>> hashSets = new ArrayList<>(3 * size);
+        for (Person patient : patients) {
+            hashSets.add(new HashSet<>(patient.getTags()));
+            hashSets.add(new HashSet<>(patient.getMedicalHistory()));
+            hashSets.add(new HashSet<>(patient.getCheckups()));
+        }
+        long hashSetBytes = usedHeap() - baseline;
+        report("HashSet", hashSets.size() / 3, hashSetBytes);
+        hashSets.clear();
+
+        baseline = usedHeap();
+        List<Set<?>> arraySets = new ArrayList<>(3 * size);
+        for (Person patient : patients) {
+            arraySets.add(ImmutableArraySet.copyOf(new ArrayList<>(patient.getTags())));
+            arraySets.add(ImmutableArraySet.copyOf(new ArrayList<>(patient.getMedicalHistory())));
+            arraySets.add(ImmutableArraySet.copyOf(new ArrayList<>(patient.getCheckups())));
+        }
+        long arraySetBytes = usedHeap() - baseline;
+        report("ImmutableArraySet", arraySets.size() / 3, arraySetBytes);
+
+        System.out.printf("saved: %,d bytes (%.1f bytes per patient)%n",
+                hashSetBytes - arraySetBytes, (double) (hashSetBytes - arraySetBytes) / patients.size());
+    }
+
+    private static void report(String label, int count, long bytes) {
+        System.out.printf("%s: sets of %,d patients retain %,d bytes (%.1f bytes per patient)%n",
+                label, count, bytes, (double) bytes / count);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.AssignmentGraph;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates deterministic address book contents of arbitrary size for benchmarks.
+ * One in ten persons is a nurse; patients have between zero and three checkups.
+ */
+public class SyntheticPersons {
+
+    private static final String[] BLOOD_TYPES = {"A+", "A-", "B+", "B-", "AB+", "AB-", "O+", "O-"};
+    private static final String[] CONDITIONS = {"Diabetes", "Hypertension", "Asthma", "Arthritis"};
+    private static final LocalDate FIRST_CHECKUP_DATE = LocalDate.of(2030, 1, 1);
+
+    private SyntheticPersons() {}
+
+    /**
+     * Returns {@code count} distinct persons generated from {@code seed}.
+     */
+    public static List<Person> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(generatePerson(i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding {@code count} distinct persons generated from {@code seed}.
+     */
+    public static AddressBook generateAddressBook(int count, long seed) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generate(count, seed));
+        return addressBook;
+    }
+
+    private static Person generatePerson(int i, Random random) {
+        boolean isNurse = i % 10 == 0;
+        Name name = new Name((isNurse ? "Nurse " : "Resident ") + toLetters(i));
+        DateOfBirth dob = new DateOfBirth(String.format("%02d/%02d/%d",
+                1 + random.nextInt(28), 1 + random.nextInt(12), 1930 + random.nextInt(70)));
+        Phone phone = new Phone(String.format("8%07d", i));
+        Email email = new Email("resident" + i + "@example.com");
+        Address address = new Address((1 + random.nextInt(999)) + " Clementi Ave " + (1 + random.nextInt(9)));
+        BloodType bloodType = BloodType.of(BLOOD_TYPES[random.nextInt(BLOOD_TYPES.length)]);
+        Appointment appointment = isNurse ? Appointment.NURSE : Appointment.PATIENT;
+
+        Set<Tag> tags = new HashSet<>();
+        Set<MedicalHistory> medicalHistory = new HashSet<>();
+        Set<Checkup> checkups = new HashSet<>();
+        NextOfKin nextOfKin = new NextOfKin(null);
+        if (!isNurse) {
+            tags.add(AssignmentGraph.toNurseTag(new Name("Nurse " + toLetters(i - i % 10))));
+            medicalHistory.add(new MedicalHistory(CONDITIONS[random.nextInt(CONDITIONS.length)]));
+            nextOfKin = new NextOfKin("Jane " + String.format("9%07d", i));
+            int checkupCount = random.nextInt(4);
+            for (int c = 0; c < checkupCount; c++) {
+                checkups.add(generateCheckup(random));
+            }
+        }
+        return new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin,
+                medicalHistory, checkups);
+    }
+
+    private static Checkup generateCheckup(Random random) {
+        LocalDate date = FIRST_CHECKUP_DATE.plusDays(random.nextInt(365));
+        LocalTime time = LocalTime.of(9 + random.nextInt(8), 15 * random.nextInt(4));
+        try {
+            return new Checkup(date, time, false);
+        } catch (ParseException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns {@code number} written in base 26 with the letters A to Z, so that generated names stay valid.
+     */
+    public static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the heap retained by persons holding shared {@code BloodType}, {@code Appointment} and {@code Tag}
+ * instances with that retained by persons holding a copy of each per person, as they did when every value
+ * object was created with its constructor.
+ *
+ * Heap footprint is not something JMH measures, so this is run directly, e.g. with
+ * {@code java -cp <jmh classpath> seedu.address.benchmark.ValueObjectFootprint 100000}.
+ */
+public class ValueObjectFootprint {
+
+    private static final int DEFAULT_SIZE = 100_000;
+
+    private ValueObjectFootprint() {}
+
+    /**
+     * Prints the heap retained by {@code args[0]} (default 100000) synthetic persons in both forms.
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+
+        long baseline = usedHeap();
+        List<Person> sharedValues = SyntheticPersons.generate(size, 42);
+        long sharedBytes = usedHeap() - baseline;
+        report("shared value objects", sharedValues.size(), sharedBytes);
+        sharedValues.clear();
+
+        baseline = usedHeap();
+        List<Person> copiedValues = withCopiedValues(SyntheticPersons.generate(size, 42));
+        long copiedBytes = usedHeap() - baseline;
+        report("per-person value objects", copiedValues.size(), copiedBytes);
+
+        System.out.printf("saved: %,d bytes (%.1f bytes per person)%n",
+                copiedBytes - sharedBytes, (double) (copiedBytes - sharedBytes) / size);
+    }
+
+    /**
+     * Returns {@code persons} with their blood type, appointment and tags replaced by copies of their own,
+     * each backed by a string of its own as a freshly parsed value would be.
+     */
+    private static List<Person> withCopiedValues(List<Person> persons) {
+        List<Person> copies = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Set<Tag> tags = new HashSet<>();
+            for (Tag tag : person.getTags()) {
+                tags.add(new Tag(new String(tag.tagName)));
+            }
+            copies.add(new Person(person.getName(), person.getDateOfBirth(), person.getPhone(), person.getEmail(),
+                    person.getAddress(), new BloodType(new String(person.getBloodType().bloodType)),
+                    new Appointment(new String(person.getAppointment().appointment)), tags,
+                    person.getNextOfKin(), person.getMedicalHistory(), person.getCheckups()));
+        }
+        return copies;
+    }
+
+    private static void report(String label, int count, long bytes) {
+        System.out.printf("%s: %,d persons retain %,d bytes (%.1f bytes per person)%n",
+                label, count, bytes, (double) bytes / count);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
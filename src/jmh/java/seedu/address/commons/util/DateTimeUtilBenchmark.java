@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares loading and rendering the dates and times of many records through {@link DateTimeFormatter}s, as the
+ * storage and model classes used to, against {@link DateTimeUtil}.
+ *
+ * Loading reads a date of birth, a checkup date and a checkup time per record, as a json data file is read.
+ * Rendering writes a checkup as {@code Checkup#toString()} does, and its date and time as they are saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DateTimeUtilBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    @Param({"100000"})
+    public int size;
+
+    private String[] dobs;
+    private String[] dates;
+    private String[] times;
+    private LocalDateTime[] dateTimes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        dobs = new String[size];
+        dates = new String[size];
+        times = new String[size];
+        dateTimes = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            LocalDate dob = LocalDate.of(1930 + random.nextInt(90), 1, 1).plusDays(random.nextInt(365));
+            dateTimes[i] = LocalDateTime.of(LocalDate.of(2030, 1, 1).plusDays(random.nextInt(730)),
+                    LocalTime.of(9 + random.nextInt(8), random.nextInt(4) * 15));
+            dobs[i] = dob.format(DATE_FORMATTER);
+            dates[i] = dateTimes[i].format(DATE_FORMATTER);
+            times[i] = dateTimes[i].format(TIME_FORMATTER);
+        }
+    }
+
+    @Benchmark
+    public void loadWithFormatters(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            // the date of birth was checked by splitting it, then parsed
+            String[] dobParts = dobs[i].split("/");
+            int day = Integer.parseInt(dobParts[0]);
+            int month = Integer.parseInt(dobParts[1]);
+            int year = Integer.parseInt(dobParts[2]);
+            blackhole.consume(day <= LocalDate.of(year, month, 1).lengthOfMonth());
+            blackhole.consume(LocalDate.parse(dobs[i], DATE_FORMATTER));
+            blackhole.consume(LocalDate.parse(dates[i], DATE_FORMATTER));
+            blackhole.consume(LocalTime.parse(times[i], TIME_FORMATTER));
+        }
+    }
+
+    @Benchmark
+    public void loadWithDateTimeUtil(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(DateTimeUtil.isValidDate(dobs[i]));
+            blackhole.consume(DateTimeUtil.parseDate(dobs[i]));
+            blackhole.consume(DateTimeUtil.parseDate(dates[i]));
+            blackhole.consume(DateTimeUtil.parseTime(times[i]));
+        }
+    }
+
+    @Benchmark
+    public void renderWithFormatters(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(dateTimes[i].format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+            blackhole.consume(dateTimes[i].toLocalDate().format(DATE_FORMATTER));
+            blackhole.consume(dateTimes[i].toLocalTime().format(TIME_FORMATTER));
+        }
+    }
+
+    @Benchmark
+    public void renderWithDateTimeUtil(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(DateTimeUtil.formatDateTime(dateTimes[i]));
+            blackhole.consume(DateTimeUtil.formatDate(dateTimes[i].toLocalDate()));
+            blackhole.consume(DateTimeUtil.formatTime(dateTimes[i].toLocalTime()));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
+import seedu.address.model.person.PersonColumns.Query;
+
+/**
+ * Compares counting "O- patients born before 1945 with their earliest checkup in a given week" by walking the
+ * {@code Person} objects with counting it over the {@link PersonColumns} of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnarScanBenchmark {
+
+    private static final BloodType BLOOD_TYPE = BloodType.of("O-");
+    private static final LocalDate BORN_BEFORE = LocalDate.of(1945, 1, 1);
+    private static final LocalDateTime WEEK_START = LocalDateTime.of(2030, 3, 4, 0, 0);
+    private static final LocalDateTime WEEK_END = LocalDateTime.of(2030, 3, 10, 23, 59);
+
+    @Param({"100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private PersonColumns columns;
+    private Query query;
+
+    @Setup
+    public void setUp() {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        columns = addressBook.getColumns();
+        query = new Query().bloodType(BLOOD_TYPE).appointment(Appointment.PATIENT)
+                .bornBetween(LocalDate.MIN, BORN_BEFORE.minusDays(1))
+                .earliestCheckupBetween(WEEK_START, WEEK_END);
+    }
+
+    @Benchmark
+    public int countByWalkingPersons() {
+        int count = 0;
+        for (Person person : addressBook.getPersonList()) {
+            LocalDateTime earliestCheckup = person.getEarliestCheckupDateTime();
+            if (person.getBloodType().equals(BLOOD_TYPE)
+                    && person.isPatient()
+                    && person.getDateOfBirth().dob.isBefore(BORN_BEFORE)
+                    && !earliestCheckup.isBefore(WEEK_START)
+                    && !earliestCheckup.isAfter(WEEK_END)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int countOverColumns() {
+        return columns.count(query);
+    }
+}
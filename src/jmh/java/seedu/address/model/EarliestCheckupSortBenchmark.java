@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares sorting persons by their earliest checkup when the key is recomputed on every comparison
+ * against sorting by the key cached in {@link Person#getEarliestCheckupDateTime()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EarliestCheckupSortBenchmark {
+
+    private static final Comparator<Person> STREAMED_MIN_COMPARATOR = Comparator.comparing(
+            person -> person.getCheckups().stream()
+                    .map(Checkup::getDateTime)
+                    .min(LocalDateTime::compareTo)
+                    .orElse(LocalDateTime.MAX));
+
+    private static final Comparator<Person> CACHED_KEY_COMPARATOR =
+            Comparator.comparing(Person::getEarliestCheckupDateTime);
+
+    @Param({"50000"})
+    public int size;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.generate(size, 42);
+    }
+
+    @Benchmark
+    public List<Person> sortByStreamedMin() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(STREAMED_MIN_COMPARATOR);
+        return sorted;
+    }
+
+    @Benchmark
+    public List<Person> sortByCachedKey() {
+        List<Person> sorted = new ArrayList<>(persons);
+        sorted.sort(CACHED_KEY_COMPARATOR);
+        return sorted;
+    }
+}
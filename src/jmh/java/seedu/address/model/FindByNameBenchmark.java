@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares answering a {@code find} query by testing {@link NameContainsKeywordsPredicate} against every person
+ * with looking the keywords up in the name index of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindByNameBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"qxd", "bqxd", "nurse"})
+    public String keyword;
+
+    private AddressBook addressBook;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+
+    @Benchmark
+    public List<Person> findByScan() {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> findByIndex() {
+        return addressBook.findPersonsByName(predicate.getKeywords());
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares validating the fields of many persons through {@link String#matches(String)} with the expressions the
+ * value classes used before, against {@link ValidationUtil}, one validator at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9][A-Za-z0-9_.+-]+(?:[+_.-]*[A-Za-z0-9_.+-]+)*"
+            + "@[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9]*[A-Za-z0-9])?"
+            + "(?:\\.[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9]*[A-Za-z0-9])?)*\\.[A-Za-z0-9]{2,}$";
+
+    @Param({"name", "phone", "email", "tag", "bloodType", "appointment", "medicalHistory", "address"})
+    public String validator;
+
+    @Param({"10000"})
+    public int size;
+
+    private String[] values;
+    private Predicate<String> regexValidator;
+    private Predicate<String> utilValidator;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = SyntheticPersons.generate(size, 42);
+        switch (validator) {
+        case "name":
+            setUp(persons, person -> person.getName().fullName, "^[A-Za-z]+(?:[ '\\-/][A-Za-z]+)*$",
+                    ValidationUtil::isValidName);
+            break;
+        case "phone":
+            setUp(persons, person -> person.getPhone().value,
+                    "^(?!0+(?:\\s+0+)*$)(?:\\d{3,}(?:\\s+\\d{3,})*)$", ValidationUtil::isValidPhone);
+            break;
+        case "email":
+            setUp(persons, person -> person.getEmail().value, EMAIL_REGEX, ValidationUtil::isValidEmail);
+            break;
+        case "tag":
+            setUp(persons, person -> person.getTags().isEmpty() ? "Nurse" : person.getTags().iterator().next().tagName,
+                    "^[a-zA-Z0-9 ]+$", ValidationUtil::isValidTagName);
+            break;
+        case "bloodType":
+            setUp(persons, person -> person.getBloodType().bloodType,
+                    "^(A\\+|A\\-|B\\+|B\\-|AB\\+|AB\\-|O\\+|O\\-)$", ValidationUtil::isValidBloodType);
+            regexValidator = test -> test.toUpperCase().matches("^(A\\+|A\\-|B\\+|B\\-|AB\\+|AB\\-|O\\+|O\\-)$");
+            break;
+        case "appointment":
+            setUp(persons, person -> person.getAppointment().appointment, "^(nurse|patient)$",
+                    ValidationUtil::isValidAppointment);
+            regexValidator = test -> test.toLowerCase().matches("^(nurse|patient)$");
+            break;
+        case "medicalHistory":
+            setUp(persons, person -> person.getMedicalHistory().isEmpty() ? "Nil"
+                    : person.getMedicalHistory().iterator().next().medicalHistory,
+                    "^[a-zA-Z0-9, /():-]+$", ValidationUtil::isValidMedicalHistory);
+            break;
+        case "address":
+            setUp(persons, person -> person.getAddress().value, "\\S.*", ValidationUtil::isValidAddress);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown validator " + validator);
+        }
+    }
+
+    private void setUp(List<Person> persons, Function<Person, String> field, String regex,
+            Predicate<String> utilValidator) {
+        values = persons.stream().map(field).toArray(String[]::new);
+        regexValidator = test -> test.matches(regex);
+        this.utilValidator = utilValidator;
+    }
+
+    @Benchmark
+    public int validateWithStringMatches() {
+        return countValid(regexValidator);
+    }
+
+    @Benchmark
+    public int validateWithValidationUtil() {
+        return countValid(utilValidator);
+    }
+
+    private int countValid(Predicate<String> isValid) {
+        int validCount = 0;
+        for (String value : values) {
+            if (isValid.test(value)) {
+                validCount++;
+            }
+        }
+        return validCount;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Compares saving and loading an address book with {@link JsonAddressBookStorage} and
+ * {@link BinaryAddressBookStorage}, whose data file is loaded through a mapping that leaves the details of the
+ * persons in the file, against decoding every person whole.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BinaryStorageBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        folder = Files.createTempDirectory("binary-storage-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        Files.deleteIfExists(JsonAddressBookStorage.getChecksumFilePath(jsonStorage.getAddressBookFilePath()));
+        Files.deleteIfExists(JsonAddressBookStorage.getIndexesFilePath(jsonStorage.getAddressBookFilePath()));
+        Files.delete(binaryStorage.getAddressBookFilePath());
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveBinary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinaryWithDetails() throws IOException, IllegalValueException {
+        return BinaryAddressBookStorage.readFrom(
+                ByteBuffer.wrap(Files.readAllBytes(binaryStorage.getAddressBookFilePath())));
+    }
+}
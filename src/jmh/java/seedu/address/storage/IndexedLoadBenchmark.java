@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Compares starting the model from a json file whose indexes file matches it, so that the indexes of the persons
+ * are restored, with starting it from the same file without an indexes file, so that the indexes are built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexedLoadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Path folder;
+    private Path unindexedFilePath;
+    private JsonAddressBookStorage storage;
+    private UserPrefs userPrefs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("indexed-load-benchmark");
+        Path filePath = folder.resolve("addressbook.json");
+        storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(SyntheticPersons.generateAddressBook(size, 42));
+        // the same file and checksum file without an indexes file, as if it were saved by an earlier version
+        unindexedFilePath = Files.copy(filePath, folder.resolve("unindexed.json"));
+        Files.copy(JsonAddressBookStorage.getChecksumFilePath(filePath),
+                JsonAddressBookStorage.getChecksumFilePath(unindexedFilePath));
+        userPrefs = new UserPrefs();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public ModelManager startWithIndexes() throws DataLoadingException {
+        return new ModelManager(storage.readAddressBook().get(), userPrefs);
+    }
+
+    @Benchmark
+    public ModelManager startWithoutIndexes() throws DataLoadingException {
+        return new ModelManager(storage.readAddressBook(unindexedFilePath).get(), userPrefs);
+    }
+}
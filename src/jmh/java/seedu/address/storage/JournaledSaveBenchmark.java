@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares saving an address book after editing one person by rewriting the whole json file with saving it through
+ * a {@link JournaledAddressBookStorage}, which appends a single record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JournaledSaveBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private JournaledAddressBookStorage journaledStorage;
+    private int edits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        folder = Files.createTempDirectory("journaled-save-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("full.json"));
+        journaledStorage = new JournaledAddressBookStorage(folder.resolve("journaled.json"), Integer.MAX_VALUE);
+        journaledStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * Edits the address of one person, as an {@code edit} command would.
+     */
+    private void editOnePerson() {
+        Person target = addressBook.getPersonList().get(edits++ % size);
+        Person edited = new Person(target.getName(), target.getDateOfBirth(), target.getPhone(), target.getEmail(),
+                new Address(edits + " Journal Street"), target.getBloodType(), target.getAppointment(),
+                target.getTags(), target.getNextOfKin(), target.getMedicalHistory(), target.getCheckups());
+        addressBook.setPerson(target, edited);
+    }
+
+    @Benchmark
+    public void editAndRewriteJsonFile() throws IOException {
+        editOnePerson();
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void editAndAppendToJournal() throws IOException {
+        editOnePerson();
+        journaledStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Compares loading an address book by reading the whole json document into a {@link JsonSerializableAddressBook}
+ * before converting it with streaming it one person at a time, and streaming a file that matches its checksum file,
+ * so that its persons are not validated again.
+ * Run with {@code -prof gc} to compare the memory allocated per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonLoadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Path folder;
+    private Path filePath;
+    private Path uncheckedFilePath;
+    private JsonAddressBookStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("json-load-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(SyntheticPersons.generateAddressBook(size, 42));
+        // the same file without a checksum file, as if it were edited by hand
+        uncheckedFilePath = Files.copy(filePath, folder.resolve("unchecked.json"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(JsonAddressBookStorage.getChecksumFilePath(filePath));
+        Files.deleteIfExists(JsonAddressBookStorage.getIndexesFilePath(filePath));
+        Files.deleteIfExists(uncheckedFilePath);
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public AddressBook loadWholeDocument() throws DataLoadingException, IllegalValueException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadStreamed() throws DataLoadingException {
+        return storage.readAddressBook(uncheckedFilePath).get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadStreamedTrusted() throws DataLoadingException {
+        return storage.readAddressBook().get();
+    }
+}
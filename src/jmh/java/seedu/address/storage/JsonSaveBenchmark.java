@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares saving an address book by building the whole json document as a string with streaming it to the file
+ * one person at a time, pretty-printed and compact.
+ * Run with {@code -prof gc} to compare the memory allocated per save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSaveBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private Path filePath;
+    private JsonAddressBookStorage prettyStorage;
+    private JsonAddressBookStorage compactStorage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        folder = Files.createTempDirectory("json-save-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        prettyStorage = new JsonAddressBookStorage(filePath);
+        compactStorage = new JsonAddressBookStorage(filePath, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(JsonAddressBookStorage.getChecksumFilePath(filePath));
+        Files.deleteIfExists(JsonAddressBookStorage.getIndexesFilePath(filePath));
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveDocumentString() throws IOException {
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)));
+    }
+
+    @Benchmark
+    public void saveStreamed() throws IOException {
+        prettyStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void saveStreamedCompact() throws IOException {
+        compactStorage.saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.AddressBook;
+import seedu.address.model.assignment.AssignmentGraph;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares saving an address book after assigning a nurse to one patient by rewriting the whole json file with
+ * saving it through a {@link SegmentedAddressBookStorage}, which rewrites one segment and the manifest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SegmentedSaveBenchmark {
+
+    private static final Name NURSE_NAME = new Name("Joy Tan");
+
+    @Param({"100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private SegmentedAddressBookStorage segmentedStorage;
+    private int edits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        folder = Files.createTempDirectory("segmented-save-benchmark");
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("full.json"));
+        segmentedStorage = new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(folder.resolve("segmented.json")));
+        segmentedStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Tags one person with a nurse's name, as an {@code assign} command would.
+     */
+    private void assignOnePerson() {
+        Person target = addressBook.getPersonList().get(edits++ % size);
+        Set<Tag> tags = new HashSet<>(target.getTags());
+        tags.add(AssignmentGraph.toNurseTag(NURSE_NAME));
+        Person assigned = new Person(target.getName(), target.getDateOfBirth(), target.getPhone(), target.getEmail(),
+                target.getAddress(), target.getBloodType(), target.getAppointment(), tags,
+                target.getNextOfKin(), target.getMedicalHistory(), target.getCheckups());
+        addressBook.setPerson(target, assigned);
+    }
+
+    @Benchmark
+    public void assignAndRewriteJsonFile() throws IOException {
+        assignOnePerson();
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void assignAndRewriteSegment() throws IOException {
+        assignOnePerson();
+        segmentedStorage.saveAddressBook(addressBook);
+    }
+}
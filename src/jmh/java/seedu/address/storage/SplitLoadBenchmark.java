@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares loading an address book from a json file with loading it from split data files, which leave the next of
+ * kin and medical history of each person in the details file, and the cost of viewing a person's details afterwards.
+ * Run with {@code -prof gc} to compare the memory allocated per load; the memory the loaded persons keep is compared
+ * by measuring the heap after a load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SplitLoadBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private Path folder;
+    private JsonAddressBookStorage jsonStorage;
+    private SplitAddressBookStorage splitStorage;
+    private AddressBook splitAddressBook;
+    private int viewedIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DataLoadingException {
+        folder = Files.createTempDirectory("split-load-benchmark");
+        AddressBook addressBook = SyntheticPersons.generateAddressBook(size, 42);
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(addressBook);
+        splitStorage = new SplitAddressBookStorage(
+                SplitAddressBookStorage.getManifestFilePath(folder.resolve("addressbook.json")));
+        splitStorage.saveAddressBook(addressBook);
+        splitAddressBook = loadSplit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public AddressBook loadJson() throws DataLoadingException {
+        return new AddressBook(jsonStorage.readAddressBook().get());
+    }
+
+    @Benchmark
+    public AddressBook loadSplit() throws DataLoadingException {
+        return new AddressBook(splitStorage.readAddressBook().get());
+    }
+
+    /**
+     * Views the details of a different person each time, so that each is loaded from the details file.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int viewSplitDetails() {
+        viewedIndex = (viewedIndex + 7919) % size;
+        Person person = splitAddressBook.getPersonList().get(viewedIndex);
+        return person.getNextOfKin().value.length() + person.getMedicalHistory().size();
+    }
+}
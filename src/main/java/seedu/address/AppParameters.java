@@ -18,6 +18,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private boolean isStopOnError;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,25 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run at launch, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public boolean isStopOnError() {
+        return isStopOnError;
+    }
+
+    public void setStopOnError(boolean isStopOnError) {
+        this.isStopOnError = isStopOnError;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +62,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setStopOnError(Boolean.parseBoolean(namedParameters.get("stop-on-error")));
+
         return appParameters;
     }
 
@@ -56,18 +85,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isStopOnError == otherAppParameters.isStopOnError;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isStopOnError);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isStopOnError", isStopOnError)
                 .toString();
     }
 }
@@ -1,7 +1,13 @@
 package seedu.address;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,7 +21,11 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,8 +33,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.SplitAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,16 +71,159 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, userPrefs.isAddressBookWriteBehind());
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath(), appParameters.isStopOnError());
+        }
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Runs the commands in the script at {@code scriptPath} before the UI is shown, saving the address book once
+     * after them. The result is logged; a script that cannot be run does not stop the application from starting.
+     */
+    private void runScript(Path scriptPath, boolean isStopOnError) {
+        String commandText = RunCommand.COMMAND_WORD + " " + scriptPath
+                + (isStopOnError ? " " + PREFIX_STOP_ON_ERROR : "");
+        try {
+            logger.info(logic.execute(commandText).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Could not run script " + scriptPath + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} of the format selected in {@code userPrefs}.
+     * If the selected format has no data file yet, the most recently saved data file of another format is converted
+     * into it, so that switching formats keeps the data. A data file of the selected format is never replaced by one
+     * of another format, however recently that one was modified.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        logger.info("Using data file format : " + format);
+        AddressBookStorage selectedStorage = createAddressBookStorage(format, jsonFilePath);
+        Path selectedFilePath = selectedStorage.getAddressBookFilePath();
+
+        if (Files.exists(selectedFilePath)) {
+            // a journal left by the journaled format holds changes a plain json file does not have
+            Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(jsonFilePath);
+            if ((format == AddressBookFormat.JSON || format == AddressBookFormat.COMPACT_JSON)
+                    && Files.exists(journalFilePath) && convert(new JournaledAddressBookStorage(jsonFilePath),
+                            selectedStorage)) {
+                deleteJournal(journalFilePath);
+            }
+            return selectedStorage;
+        }
+
+        // the json file, read with its journal if any, stands for the three json formats
+        List<AddressBookStorage> otherStorages = new ArrayList<>();
+        for (AddressBookFormat otherFormat : List.of(AddressBookFormat.JOURNALED_JSON, AddressBookFormat.BINARY,
+                AddressBookFormat.SEGMENTED, AddressBookFormat.SPLIT)) {
+            AddressBookStorage otherStorage = createAddressBookStorage(otherFormat, jsonFilePath);
+            if (!otherStorage.getAddressBookFilePath().equals(selectedFilePath)
+                    && Files.exists(otherStorage.getAddressBookFilePath())) {
+                otherStorages.add(otherStorage);
+            }
+        }
+
+        AddressBookStorage newestStorage = null;
+        FileTime newestTime = null;
+        for (AddressBookStorage otherStorage : otherStorages) {
+            Path filePath = otherStorage.getAddressBookFilePath();
+            try {
+                FileTime lastModifiedTime = getLastModifiedTime(filePath);
+                if (newestTime == null || lastModifiedTime.compareTo(newestTime) > 0) {
+                    newestStorage = otherStorage;
+                    newestTime = lastModifiedTime;
+                }
+            } catch (IOException e) {
+                logger.warning("Could not check data file " + filePath + " : " + StringUtil.getDetails(e));
+            }
+        }
+        if (newestStorage != null) {
+            if (otherStorages.size() > 1) {
+                logger.info("Found data files of several other formats; converting the most recently saved one");
+            }
+            convert(newestStorage, selectedStorage);
+        }
+        return selectedStorage;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} of {@code format} for the json data file at {@code jsonFilePath}; the
+     * data files of the other formats are placed next to it.
+     */
+    private static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path jsonFilePath) {
+        switch (format) {
+        case JSON:
+            return new JsonAddressBookStorage(jsonFilePath);
+        case COMPACT_JSON:
+            return new JsonAddressBookStorage(jsonFilePath, true);
+        case JOURNALED_JSON:
+            return new JournaledAddressBookStorage(jsonFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath));
+        case SPLIT:
+            return new SplitAddressBookStorage(SplitAddressBookStorage.getManifestFilePath(jsonFilePath));
+        default:
+            throw new AssertionError("Unknown address book format " + format);
+        }
+    }
+
+    /**
+     * Saves the address book of {@code source} to {@code target}.
+     *
+     * @return true if it was converted.
+     */
+    private boolean convert(AddressBookStorage source, AddressBookStorage target) {
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Path targetFilePath = target.getAddressBookFilePath();
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isEmpty()) {
+                return false;
+            }
+            target.saveAddressBook(addressBook.get());
+            logger.info("Converted data file " + sourceFilePath + " (" + addressBook.get().getPersonList().size()
+                    + " persons) to " + targetFilePath);
+            return true;
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert data file " + sourceFilePath + " to " + targetFilePath + " : "
+                    + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    private void deleteJournal(Path journalFilePath) {
+        try {
+            Files.deleteIfExists(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not delete journal file " + journalFilePath + " : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the time the data file at {@code filePath} was last modified, including by appending to its journal.
+     */
+    private static FileTime getLastModifiedTime(Path filePath) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return lastModifiedTime;
+        }
+        FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalFilePath);
+        return journalLastModifiedTime.compareTo(lastModifiedTime) > 0 ? journalLastModifiedTime : lastModifiedTime;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +334,13 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flushAddressBook();
+            // built once here rather than on every save, for the next start to restore
+            storage.saveAddressBookIndexes(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
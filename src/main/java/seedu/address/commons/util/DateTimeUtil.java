@@ -0,0 +1,238 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parses and formats the dates and times used across the app: dates as {@value #DATE_PATTERN}, times as
+ * {@value #TIME_PATTERN}, and times typed in commands as {@value #INPUT_TIME_PATTERN}.
+ *
+ * Text is read character by character, without regular expressions, splitting or a {@link DateTimeFormatter}, so
+ * that checking and parsing a value allocates nothing but the parsed value. Formatting writes the digits straight
+ * into a {@link StringBuilder}, which can be the caller's own.
+ */
+public class DateTimeUtil {
+
+    public static final String DATE_PATTERN = "dd/MM/yyyy";
+    public static final String TIME_PATTERN = "HH:mm";
+    public static final String INPUT_TIME_PATTERN = "HHmm";
+    public static final String MESSAGE_INVALID_DATE = "Date must be an existing date in the format " + DATE_PATTERN;
+    public static final String MESSAGE_INVALID_TIME = "Time must be in the format %1$s";
+    public static final String MESSAGE_INVALID_DATE_TIME = "Date and time must be in the format "
+            + DATE_PATTERN + " " + TIME_PATTERN;
+
+    private static final int DATE_LENGTH = DATE_PATTERN.length();
+    private static final int TIME_LENGTH = TIME_PATTERN.length();
+    private static final int INPUT_TIME_LENGTH = INPUT_TIME_PATTERN.length();
+    private static final int MAX_FORMATTED_YEAR = 9999;
+    // for the dates of years that do not have four digits, which the app never parses but may be asked to format
+    private static final DateTimeFormatter WIDE_YEAR_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    /**
+     * Returns true if {@code text} has the form of {@value #DATE_PATTERN}, with a day from 01 to 31 and a month from
+     * 01 to 12, whether or not the day exists in that month.
+     */
+    public static boolean isDateFormat(CharSequence text) {
+        requireNonNull(text);
+        return text.length() == DATE_LENGTH && isDateFormatAt(text, 0);
+    }
+
+    /**
+     * Returns true if {@code text} is an existing date in the form of {@value #DATE_PATTERN}.
+     */
+    public static boolean isValidDate(CharSequence text) {
+        requireNonNull(text);
+        return text.length() == DATE_LENGTH && isValidDateAt(text, 0);
+    }
+
+    /**
+     * Returns the date in {@code text}.
+     *
+     * @throws IllegalArgumentException if {@code text} is not a valid date, see {@link #isValidDate(CharSequence)}.
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        if (!isValidDate(text)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_DATE);
+        }
+        return readDateAt(text, 0);
+    }
+
+    /**
+     * Returns true if {@code text} is a time in the form of {@value #TIME_PATTERN}.
+     */
+    public static boolean isValidTime(CharSequence text) {
+        requireNonNull(text);
+        return text.length() == TIME_LENGTH && text.charAt(2) == ':' && isValidTimeAt(text, 0, 3);
+    }
+
+    /**
+     * Returns the time in {@code text}.
+     *
+     * @throws IllegalArgumentException if {@code text} is not a valid time, see {@link #isValidTime(CharSequence)}.
+     */
+    public static LocalTime parseTime(CharSequence text) {
+        if (!isValidTime(text)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_TIME, TIME_PATTERN));
+        }
+        return LocalTime.of(readTwoDigits(text, 0), readTwoDigits(text, 3));
+    }
+
+    /**
+     * Returns true if {@code text} is a time in the form of {@value #INPUT_TIME_PATTERN}.
+     */
+    public static boolean isValidInputTime(CharSequence text) {
+        requireNonNull(text);
+        return text.length() == INPUT_TIME_LENGTH && isValidTimeAt(text, 0, 2);
+    }
+
+    /**
+     * Returns the time in {@code text}.
+     *
+     * @throws IllegalArgumentException if {@code text} is not a valid time, see
+     *     {@link #isValidInputTime(CharSequence)}.
+     */
+    public static LocalTime parseInputTime(CharSequence text) {
+        if (!isValidInputTime(text)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_TIME, INPUT_TIME_PATTERN));
+        }
+        return LocalTime.of(readTwoDigits(text, 0), readTwoDigits(text, 2));
+    }
+
+    /**
+     * Returns the date and time in {@code text}, a date and a time separated by a space as written by
+     * {@link #formatDateTime(LocalDateTime)}.
+     *
+     * @throws IllegalArgumentException if {@code text} is not a valid date and time.
+     */
+    public static LocalDateTime parseDateTime(CharSequence text) {
+        requireNonNull(text);
+        int timeStart = DATE_LENGTH + 1;
+        if (text.length() != timeStart + TIME_LENGTH || text.charAt(DATE_LENGTH) != ' ') {
+            throw new IllegalArgumentException(MESSAGE_INVALID_DATE_TIME);
+        }
+        if (!isValidDateAt(text, 0) || text.charAt(timeStart + 2) != ':'
+                || !isValidTimeAt(text, timeStart, timeStart + 3)) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_DATE_TIME);
+        }
+        return LocalDateTime.of(readDateAt(text, 0),
+                LocalTime.of(readTwoDigits(text, timeStart), readTwoDigits(text, timeStart + 3)));
+    }
+
+    /**
+     * Returns {@code date} in the form of {@value #DATE_PATTERN}.
+     */
+    public static String formatDate(LocalDate date) {
+        return appendDate(new StringBuilder(DATE_LENGTH), date).toString();
+    }
+
+    /**
+     * Returns {@code time} in the form of {@value #TIME_PATTERN}, leaving out any seconds.
+     */
+    public static String formatTime(LocalTime time) {
+        return appendTime(new StringBuilder(TIME_LENGTH), time).toString();
+    }
+
+    /**
+     * Returns {@code dateTime} as its date and time separated by a space, see {@link #formatDate(LocalDate)} and
+     * {@link #formatTime(LocalTime)}.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        StringBuilder builder = new StringBuilder(DATE_LENGTH + 1 + TIME_LENGTH);
+        appendDate(builder, dateTime.toLocalDate()).append(' ');
+        return appendTime(builder, dateTime.toLocalTime()).toString();
+    }
+
+    /**
+     * Appends {@code date} to {@code builder} in the form of {@value #DATE_PATTERN}.
+     *
+     * @return {@code builder}.
+     */
+    public static StringBuilder appendDate(StringBuilder builder, LocalDate date) {
+        requireNonNull(builder);
+        requireNonNull(date);
+        if (date.getYear() < 0 || date.getYear() > MAX_FORMATTED_YEAR) {
+            return builder.append(date.format(WIDE_YEAR_DATE_FORMATTER));
+        }
+        appendTwoDigits(builder, date.getDayOfMonth()).append('/');
+        appendTwoDigits(builder, date.getMonthValue()).append('/');
+        return appendTwoDigits(appendTwoDigits(builder, date.getYear() / 100), date.getYear() % 100);
+    }
+
+    /**
+     * Appends {@code time} to {@code builder} in the form of {@value #TIME_PATTERN}, leaving out any seconds.
+     *
+     * @return {@code builder}.
+     */
+    public static StringBuilder appendTime(StringBuilder builder, LocalTime time) {
+        requireNonNull(builder);
+        requireNonNull(time);
+        appendTwoDigits(builder, time.getHour()).append(':');
+        return appendTwoDigits(builder, time.getMinute());
+    }
+
+    private static boolean isDateFormatAt(CharSequence text, int start) {
+        if (text.charAt(start + 2) != '/' || text.charAt(start + 5) != '/') {
+            return false;
+        }
+        int day = readTwoDigits(text, start);
+        int month = readTwoDigits(text, start + 3);
+        return day >= 1 && day <= 31 && month >= 1 && month <= 12 && readFourDigits(text, start + 6) >= 0;
+    }
+
+    private static boolean isValidDateAt(CharSequence text, int start) {
+        if (!isDateFormatAt(text, start)) {
+            return false;
+        }
+        int year = readFourDigits(text, start + 6);
+        int month = readTwoDigits(text, start + 3);
+        return year >= 1 && readTwoDigits(text, start) <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static LocalDate readDateAt(CharSequence text, int start) {
+        return LocalDate.of(readFourDigits(text, start + 6), readTwoDigits(text, start + 3),
+                readTwoDigits(text, start));
+    }
+
+    /**
+     * Returns true if the two digits at {@code hourIndex} of {@code text} are an hour and the two digits at
+     * {@code minuteIndex} are a minute.
+     */
+    private static boolean isValidTimeAt(CharSequence text, int hourIndex, int minuteIndex) {
+        int hour = readTwoDigits(text, hourIndex);
+        int minute = readTwoDigits(text, minuteIndex);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
+    }
+
+    /**
+     * Returns the number written by the two digits at {@code index} of {@code text}, or -1 if either is not a digit.
+     */
+    private static int readTwoDigits(CharSequence text, int index) {
+        int tens = toDigit(text.charAt(index));
+        int ones = toDigit(text.charAt(index + 1));
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+    }
+
+    /**
+     * Returns the number written by the four digits at {@code index} of {@code text}, or -1 if any is not a digit.
+     */
+    private static int readFourDigits(CharSequence text, int index) {
+        int high = readTwoDigits(text, index);
+        int low = readTwoDigits(text, index + 2);
+        return high < 0 || low < 0 ? -1 : high * 100 + low;
+    }
+
+    private static int toDigit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
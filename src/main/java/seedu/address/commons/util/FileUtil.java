@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32;
 
 /**
  * Writes and reads files
@@ -12,6 +16,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +78,70 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Replaces the content of a file with the given string in a single step, where the file system allows it, by
+     * writing the string to a temporary file next to it first. Readers of the file then see either the old or the
+     * new content, even if writing is interrupted.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeFileAtomically(file, temporaryFile -> writeToFile(temporaryFile, content));
+    }
+
+    /**
+     * Replaces a file with the content {@code content} writes to the given path, in a single step like
+     * {@link #writeToFileAtomically(Path, String)}. The content is written to a temporary file next to the file,
+     * which is deleted if writing fails, so the file keeps its old content until the new one is complete.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeFileAtomically(Path file, FileContentWriter content) throws IOException {
+        writeFileAtomically(file, content, FileUtil::moveAtomically);
+    }
+
+    /**
+     * Similar to {@link #writeFileAtomically(Path, FileContentWriter)}, but has {@code replacer} move the temporary
+     * file over the file, e.g. to release the file while it is replaced.
+     */
+    public static void writeFileAtomically(Path file, FileContentWriter content, FileReplacer replacer)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try {
+            content.writeTo(temporaryFile);
+            replacer.replace(temporaryFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step, where the file system allows it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the content of the file, read a buffer at a time.
+     * Assumes file exists
+     */
+    public static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +150,20 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content of a file to the given path.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+        void writeTo(Path file) throws IOException;
+    }
+
+    /**
+     * Replaces a file with the temporary file its new content was written to.
+     */
+    @FunctionalInterface
+    public interface FileReplacer {
+        void replace(Path temporaryFile, Path file) throws IOException;
+    }
+
 }
@@ -0,0 +1,179 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by an array of its elements sorted by hash code, for sets that are small and many.
+ * It retains a single array besides the elements, where a {@code HashSet} retains a table and a node per element,
+ * and finds elements by a binary search on their hash codes.
+ * Every modifying operation throws {@code UnsupportedOperationException}. Null elements are not allowed.
+ *
+ * Create instances through {@link #copyOf(Collection)}, which returns the shared empty set of {@link #of()} for no
+ * elements and returns sets that are already immutable array sets as they are, so that every empty set is the same
+ * instance.
+ */
+public final class ImmutableArraySet<E> extends AbstractSet<E> {
+
+    private static final Comparator<Object> BY_HASH_CODE = Comparator.comparingInt(Object::hashCode);
+
+    private static final ImmutableArraySet<Object> EMPTY = new ImmutableArraySet<>(new Object[0]);
+
+    private final Object[] elements;
+
+    private ImmutableArraySet(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns the shared empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> of() {
+        return (Set<E>) EMPTY;
+    }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code elements}.
+     *
+     * @throws NullPointerException if {@code elements} or any of its elements is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOf(Collection<? extends E> elements) {
+        requireAllNonNull(elements);
+        if (elements instanceof ImmutableArraySet) {
+            return (Set<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return of();
+        }
+
+        Object[] sorted = elements.toArray();
+        Arrays.sort(sorted, BY_HASH_CODE);
+        int size = 0;
+        for (Object element : sorted) {
+            if (!containsAmong(sorted, size, element)) {
+                sorted[size++] = element;
+            }
+        }
+        return new ImmutableArraySet<>(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * Returns true if {@code element} is equal to one of the first {@code size} of the sorted {@code elements}.
+     */
+    private static boolean containsAmong(Object[] elements, int size, Object element) {
+        int hash = element.hashCode();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midHash = elements[mid].hashCode();
+            if (midHash < hash) {
+                low = mid + 1;
+            } else if (midHash > hash) {
+                high = mid - 1;
+            } else {
+                return equalAround(elements, size, mid, hash, element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code element} is equal to one of the elements with hash code {@code hash} around
+     * {@code position}.
+     */
+    private static boolean equalAround(Object[] elements, int size, int position, int hash, Object element) {
+        for (int i = position; i >= 0 && elements[i].hashCode() == hash; i--) {
+            if (elements[i].equals(element)) {
+                return true;
+            }
+        }
+        for (int i = position + 1; i < size && elements[i].hashCode() == hash; i++) {
+            if (elements[i].equals(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && containsAmong(elements, elements.length, o);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
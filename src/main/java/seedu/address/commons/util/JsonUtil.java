@@ -2,19 +2,29 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -24,12 +34,16 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 
 /**
- * Converts a Java object instance to JSON and vice versa
+ * Converts a Java object instance to JSON and vice versa.
+ * Files are written by streaming through a buffered stream rather than by building the whole document in memory,
+ * and can be read by streaming through a {@link JsonParser}.
  */
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -39,8 +53,17 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    private static ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    private static ObjectWriter compactWriter = objectMapper.writer();
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        try (OutputStream out = newBufferedOutputStream(jsonFile)) {
+            prettyWriter.writeValue(out, objectToSerialize);
+        }
+    }
+
+    private static OutputStream newBufferedOutputStream(Path file) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -91,6 +114,78 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes a JSON document to the specified file through a generator, so that the document can be written part by
+     * part (e.g. one list element at a time) without being held in memory as a whole.
+     * Overwrites existing file if it exists, creates a new file if it doesn't. The document is written to a temporary
+     * file first and moved into place once complete, so a failed write leaves the existing file as it was.
+     *
+     * @param filePath cannot be null
+     * @param isCompact whether the document is written on a single line instead of pretty-printed
+     * @param content writes the document to the generator; cannot be null
+     * @return the CRC-32 checksum of the bytes written, as {@link FileUtil#getChecksum(Path)} would give for the file
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static long writeJsonFile(Path filePath, boolean isCompact, JsonContentWriter content) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(content);
+
+        CRC32 checksum = new CRC32();
+        FileUtil.writeFileAtomically(filePath, temporaryFile -> {
+            try (JsonGenerator generator = objectMapper.getFactory()
+                    .createGenerator(new CheckedOutputStream(newBufferedOutputStream(temporaryFile), checksum),
+                            JsonEncoding.UTF8)) {
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                content.writeTo(generator);
+            }
+        });
+        return checksum.getValue();
+    }
+
+    /**
+     * Returns a writer of instances of {@code type}, configured like the rest of this class, for writing values
+     * to the generator given by {@link #writeJsonFile(Path, boolean, JsonContentWriter)}.
+     * The writer is immutable and meant to be created once and reused. It leaves the layout of the values to the
+     * generator, and does not flush the generator after each value.
+     */
+    public static ObjectWriter writerFor(Class<?> type) {
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+
+    /**
+     * Returns a parser of the JSON document in the specified file, for reading the document token by token
+     * (e.g. one list element at a time) instead of as a whole. Closing the parser closes the file.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if the file cannot be opened
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but parses the document read from {@code in}.
+     * Closing the parser closes {@code in}.
+     *
+     * @param in cannot be null
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a reader of instances of {@code type}, configured like the rest of this class, for reading values
+     * from the parser given by {@link #createParser(Path)}.
+     * The reader is immutable and meant to be created once and reused.
+     */
+    public static ObjectReader readerFor(Class<?> type) {
+        return objectMapper.readerFor(type);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -108,7 +203,25 @@ public class JsonUtil {
      * @return JSON data representation of the given class instance, in string
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return compactWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes the content of a JSON document to a generator.
+     */
+    @FunctionalInterface
+    public interface JsonContentWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
     }
 
     /**
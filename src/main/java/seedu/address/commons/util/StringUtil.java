@@ -6,12 +6,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +41,15 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with leading and trailing whitespace removed, and every run of whitespace within it replaced
+     * by a single space.
+     */
+    public static String normalizeWhitespace(String s) {
+        requireNonNull(s);
+        return WHITESPACE.matcher(s.trim()).replaceAll(" ");
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -20,6 +20,10 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The address book is saved after a command only if it was modified since it was last saved, as told by
+ * {@link Model#getAddressBookVersion()}; the number of saves skipped is kept for verification.
+ * Errors of saves that {@link Storage} completes in the background are reported by the command after, and the
+ * address book is saved again then.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -32,6 +36,9 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // null until the first save, as the address book may not be on disk yet (e.g. when it holds sample data)
+    private Long savedAddressBookVersion;
+    private int skippedSaveCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -50,17 +57,33 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        long addressBookVersion = model.getAddressBookVersion();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (savedAddressBookVersion != null && savedAddressBookVersion == addressBookVersion) {
+                skippedSaveCount++;
+                storage.checkAddressBookSaved();
+            } else {
+                storage.saveAddressBook(model.getAddressBook());
+                savedAddressBookVersion = addressBookVersion;
+            }
         } catch (AccessDeniedException e) {
+            savedAddressBookVersion = null;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            savedAddressBookVersion = null;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the number of commands after which saving was skipped because the address book was unchanged.
+     */
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
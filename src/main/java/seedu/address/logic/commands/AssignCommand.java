@@ -9,6 +9,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.assignment.AssignmentGraph;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -61,14 +62,14 @@ public class AssignCommand extends Command {
         validateAppointmentType(patient, ROLE_PATIENT, patientIndex, MESSAGE_INVALID_PATIENT);
         validateAppointmentType(nurse, ROLE_NURSE, nurseIndex, MESSAGE_INVALID_NURSE);
 
-        long nurseCount = patient.getTags().stream().filter(tag -> tag.tagName.startsWith("Nurse")).count();
+        int nurseCount = model.getNursesAssignedTo(patient).size();
 
         if (nurseCount >= MAX_NURSES_PER_PATIENT) {
             throw new CommandException("This patient already has " + MAX_NURSES_PER_PATIENT + " assigned nurses!");
         }
 
         Set<Tag> updatedTags = new HashSet<>(patient.getTags());
-        updatedTags.add(new Tag("Nurse " + nurse.getName().fullName));
+        updatedTags.add(AssignmentGraph.toNurseTag(nurse.getName()));
 
         Person updatedPatient = new Person(
                 patient.getName(), patient.getDateOfBirth(), patient.getPhone(), patient.getEmail(),
@@ -162,14 +162,7 @@ public class EditCommand extends Command {
         boolean isPatient = appointmentAfterEdit.toString().equalsIgnoreCase("patient");
 
         if (isNurse && isPatient) {
-            String name = personToEdit.getName().toString();
-            logger.info("Name: " + name);
-            boolean patientHasEditedNurse = personModel.getAddressBook().getPersonList()
-                                                       .stream()
-                                                       .filter(person -> person.getAppointment().isPatient())
-                                                       .anyMatch(person -> person.getTags().stream()
-                                                                .anyMatch(tag -> tag.tagName.equals("Nurse "
-                                                                                                         + name)));
+            boolean patientHasEditedNurse = personModel.hasPatientsAssignedTo(personToEdit.getName());
             logger.info("Patient has edited nurse: " + patientHasEditedNurse);
             if (patientHasEditedNurse) {
                 throw new CommandException(MESSAGE_UNABLE_TO_CHANGE_APPOINTMENT_TO_PATIENT);
@@ -186,13 +179,7 @@ public class EditCommand extends Command {
         logger.info("Appointment before edit: " + appointmentBeforeEdit);
         boolean isNurse = appointmentBeforeEdit.toString().equalsIgnoreCase("nurse");
         logger.info("Is it a nurse: " + isNurse);
-        String name = personToEdit.getName().toString();
-        logger.info("Name: " + name);
-        boolean nurseHasPatientAssigned = model.getAddressBook().getPersonList()
-                                               .stream()
-                                               .filter(person -> person.getAppointment().isPatient())
-                                               .anyMatch(person -> person.getTags().stream()
-                                                        .anyMatch(tag -> tag.tagName.equals("Nurse " + name)));
+        boolean nurseHasPatientAssigned = model.hasPatientsAssignedTo(personToEdit.getName());
         logger.info("Nurse has patient assigned: " + nurseHasPatientAssigned);
         if (isNurse && nurseHasPatientAssigned) {
             throw new CommandException(MESSAGE_UNABLE_TO_CHANGE_NAME);
@@ -212,14 +199,7 @@ public class EditCommand extends Command {
 
     // Ensure that a patient can change to a nurse if they have no assigned nurse.
     private void ensurePatientHasNoAssignedNurse(Person personToEdit, Model personModel) throws CommandException {
-        String name = personToEdit.getName().toString();
-        boolean hasNurseAssigned = personModel.getAddressBook().getPersonList()
-                                              .stream()
-                                              .filter(person -> person.getName()
-                                                                             .toString()
-                                                                             .equalsIgnoreCase(name))
-                                              .anyMatch(person -> person.getTags().stream()
-                                              .anyMatch(tag -> tag.tagName.startsWith("Nurse ")));
+        boolean hasNurseAssigned = !personModel.getNursesAssignedTo(personToEdit).isEmpty();
         boolean changeToPatient = editPersonDescriptor.getAppointment().get().isPatient();
         boolean isPatient = personToEdit.getAppointment().toString().equalsIgnoreCase("patient");
 
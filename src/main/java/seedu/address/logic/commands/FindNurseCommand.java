@@ -2,9 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -44,7 +44,7 @@ public class FindNurseCommand extends FindCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Person patient = getPatientFromModel(model);
-        List<String> nurseNames = getAssignedNurseNames(patient);
+        List<String> nurseNames = getAssignedNurseNames(patient, model);
 
         if (nurseNames.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_NO_NURSE_ASSIGNED, patientIndex.getOneBased()));
@@ -82,12 +82,10 @@ public class FindNurseCommand extends FindCommand {
      * Retrieves the names of nurses assigned to the specified patient.
      *
      * @param patient The patient whose assigned nurses are to be retrieved.
+     * @param model The model to look up the assignments from.
      * @return A list of nurse names assigned to the patient.
      */
-    private List<String> getAssignedNurseNames(Person patient) {
-        return patient.getTags().stream()
-                .filter(tag -> tag.tagName.startsWith("Nurse"))
-                .map(tag -> tag.tagName.substring(5))
-                .collect(Collectors.toList());
+    private List<String> getAssignedNurseNames(Person patient, Model model) {
+        return new ArrayList<>(model.getNursesAssignedTo(patient));
     }
 }
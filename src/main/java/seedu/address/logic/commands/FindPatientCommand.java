@@ -1,12 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -15,8 +12,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.PersonHasAppointmentPredicate;
-import seedu.address.model.tag.Tag;
 
 /**
  * Changes the remark of an existing person in the address book.
@@ -49,14 +44,9 @@ public class FindPatientCommand extends FindCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        PersonHasAppointmentPredicate currentPredicate = getCurrentPredicate();
         Person nurse = getNurseFromModel(model);
-
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         List<String> patientNames = getAssignedPatientNames(nurse, model);
 
-        model.updateFilteredPersonList(Objects.requireNonNullElse(currentPredicate, PREDICATE_SHOW_ALL_PERSONS));
-
         if (patientNames.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_NO_PATIENT_ASSIGNED, nurseIndex.getOneBased()));
         }
@@ -65,17 +55,6 @@ public class FindPatientCommand extends FindCommand {
                 String.join(", ", patientNames)));
     }
 
-    /**
-     * Gets the current appointment filter, if any, from the ListCommand.
-     *
-     * @return The current PersonHasAppointmentPredicate, or null if no filter is set.
-     */
-    private PersonHasAppointmentPredicate getCurrentPredicate() {
-        return ListCommand.getAppointmentFilter() != null
-                ? new PersonHasAppointmentPredicate(ListCommand.getAppointmentFilter())
-                : null;
-    }
-
     /**
      * Retrieves the nurse from the model based on the nurse index.
      *
@@ -101,31 +80,16 @@ public class FindPatientCommand extends FindCommand {
     }
 
     /**
-     * Gets the names of the patients assigned to the given nurse.
+     * Gets the names of the patients assigned to the given nurse, in the order they are listed when all persons are
+     * shown.
      *
      * @param nurse The nurse whose assigned patients need to be found.
-     * @param model The model to get the list of persons from.
+     * @param model The model to look up the assignments from.
      * @return A list of patient names assigned to the nurse.
      */
     private List<String> getAssignedPatientNames(Person nurse, Model model) {
-        return model.getFilteredPersonList().stream()
-                .filter(person -> isPatientAssignedToNurse(person, nurse))
+        return model.getPatientsAssignedTo(nurse.getName()).stream()
                 .map(person -> person.getName().toString())
                 .collect(Collectors.toList());
     }
-
-
-    /**
-     * Checks if a patient is assigned to a nurse based on tags.
-     *
-     * @param patient The patient to check.
-     * @param nurse The nurse to check if the patient is assigned to.
-     * @return true if the patient is assigned to the nurse, false otherwise.
-     */
-    private boolean isPatientAssignedToNurse(Person patient, Person nurse) {
-        Set<Tag> tags = patient.getTags();
-        String nurseName = nurse.getName().toString().toUpperCase();
-        return tags.stream()
-                .anyMatch(tag -> tag.tagName.toUpperCase().equals("NURSE " + nurseName));
-    }
 }
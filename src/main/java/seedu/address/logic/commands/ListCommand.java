@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Appointment;
 import seedu.address.model.person.PersonHasAppointmentPredicate;
@@ -18,12 +23,16 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS_FILTERED = "Listed all persons with appointment: %s";
     public static final String MESSAGE_SUCCESS_CHECKUP = "Listed all persons with checkups."
                                                          + " List are sorted by earliest checkup date.";
+    public static final String MESSAGE_SUCCESS_CHECKUP_RANGE = "Listed all persons with checkups from %s to %s."
+                                                               + " List are sorted by earliest checkup date.";
 
     private static Appointment currentAppointmentFilter = null;
     private static boolean checkupFilterActive = false;
 
     private final Appointment appointmentFilter;
     private boolean filterByCheckup = false;
+    private final LocalDateTime checkupsFrom;
+    private final LocalDateTime checkupsTo;
 
     /**
      * Constructs a ListCommand that filters persons by the given appointment type (e.g., Nurse or Patient).
@@ -32,6 +41,8 @@ public class ListCommand extends Command {
      */
     public ListCommand(Appointment appointmentFilter) {
         this.appointmentFilter = appointmentFilter;
+        this.checkupsFrom = null;
+        this.checkupsTo = null;
     }
 
     /**
@@ -42,6 +53,22 @@ public class ListCommand extends Command {
     public ListCommand(boolean filterByCheckup) {
         this.appointmentFilter = null;
         this.filterByCheckup = filterByCheckup;
+        this.checkupsFrom = null;
+        this.checkupsTo = null;
+    }
+
+    /**
+     * Constructs a ListCommand that lists persons with a checkup between {@code from} and {@code to},
+     * both inclusive.
+     *
+     * @param from The start of the checkup range.
+     * @param to The end of the checkup range.
+     */
+    public ListCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.appointmentFilter = null;
+        this.checkupsFrom = from;
+        this.checkupsTo = to;
     }
 
     @Override
@@ -49,6 +76,16 @@ public class ListCommand extends Command {
         requireNonNull(model);
         boolean isListingAll = (appointmentFilter == null);
 
+        if (checkupsFrom != null) {
+            model.updateFilteredPersonListByCheckupsBetween(checkupsFrom, checkupsTo);
+            clearCheckupFilter();
+            clearAppointmentFilter();
+            FindCommand.clearLastFindPredicate();
+            ViewCommand.clearLastShownListPredicate();
+            return new CommandResult(String.format(MESSAGE_SUCCESS_CHECKUP_RANGE,
+                    DateTimeUtil.formatDateTime(checkupsFrom), DateTimeUtil.formatDateTime(checkupsTo)));
+        }
+
         if (filterByCheckup) {
             model.updateFilteredPersonListByEarliestCheckup(new PersonHasCheckupPredicate());
             checkupFilterActive = true;
@@ -85,8 +122,9 @@ public class ListCommand extends Command {
             return false;
         }
         ListCommand otherCommand = (ListCommand) other;
-        return appointmentFilter == null ? otherCommand.appointmentFilter == null
-                : appointmentFilter.equals(otherCommand.appointmentFilter);
+        return Objects.equals(appointmentFilter, otherCommand.appointmentFilter)
+                && Objects.equals(checkupsFrom, otherCommand.checkupsFrom)
+                && Objects.equals(checkupsTo, otherCommand.checkupsTo);
     }
 
     /**
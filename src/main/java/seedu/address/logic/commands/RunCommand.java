@@ -0,0 +1,195 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, against the model.
+ *
+ * The commands are executed directly rather than through {@link seedu.address.logic.Logic}, so the address book is
+ * saved once after the whole script, as after any other command, instead of after each of its commands. Blank lines
+ * and lines starting with {@value #COMMENT_MARKER} are skipped. A command that fails, including one that fails
+ * unexpectedly, is reported with its line number, and the rest of the script is run unless the script is to stop at
+ * the first error; either way, the changes of the commands before are kept and saved. The result tells how many of the
+ * commands of the script were run, as the result display is only updated once the whole script has run.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "and saves the address book once at the end. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "Parameters: FILE [" + PREFIX_STOP_ON_ERROR + "]\n"
+            + "Example: " + COMMAND_WORD + " ward3.txt " + PREFIX_STOP_ON_ERROR;
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d of %2$d commands from %3$s.";
+    public static final String MESSAGE_FAILURES = "%1$d of them failed:";
+    public static final String MESSAGE_STOPPED = "Stopped at line %1$d of %2$s after running %3$d of %4$d commands.";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more.";
+    public static final String MESSAGE_READ_ERROR = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+
+    /** The number of commands after which the progress of a script is logged. */
+    public static final int PROGRESS_INTERVAL = 100;
+
+    /** The number of failed commands listed in the result; the rest are only counted. */
+    public static final int MAX_REPORTED_FAILURES = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final boolean isStopOnError;
+
+    /**
+     * Creates a RunCommand to run the commands in the script at {@code scriptPath}.
+     *
+     * @param isStopOnError whether to stop running the script at the first command that fails.
+     */
+    public RunCommand(Path scriptPath, boolean isStopOnError) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+        this.isStopOnError = isStopOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // the whole script is read first, so that an unreadable one changes nothing
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, e.getMessage()), e);
+        }
+
+        int totalCommandCount = (int) lines.stream().filter(RunCommand::isCommandLine).count();
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<String> failures = new ArrayList<>();
+        int failureCount = 0;
+        int commandCount = 0;
+        int stoppedLineNumber = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (!isCommandLine(line)) {
+                continue;
+            }
+
+            commandCount++;
+            String failure = runLine(addressBookParser, line, model);
+            if (failure != null) {
+                failureCount++;
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(String.format(MESSAGE_FAILED_LINE, i + 1, failure));
+                }
+                if (isStopOnError) {
+                    stoppedLineNumber = i + 1;
+                    break;
+                }
+            }
+
+            if (commandCount % PROGRESS_INTERVAL == 0) {
+                logger.info("Ran " + commandCount + " of " + totalCommandCount + " commands from " + scriptPath
+                        + ", " + failureCount + " failed");
+            }
+        }
+        logger.info("Finished script " + scriptPath + ": ran " + commandCount + " commands, "
+                + failureCount + " failed");
+
+        return new CommandResult(
+                getResultMessage(commandCount, totalCommandCount, failureCount, failures, stoppedLineNumber));
+    }
+
+    private static boolean isCommandLine(String line) {
+        String trimmedLine = line.trim();
+        return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_MARKER);
+    }
+
+    /**
+     * Parses and executes the command on {@code line}, and returns why it failed, or null if it did not.
+     * Unexpected exceptions are returned as failures too, so that one command cannot stop the script from finishing
+     * and the address book from being saved after it.
+     */
+    private static String runLine(AddressBookParser addressBookParser, String line, Model model) {
+        try {
+            Command command = addressBookParser.parseCommand(line);
+            if (command instanceof RunCommand) {
+                return MESSAGE_NESTED_RUN;
+            }
+            command.execute(model);
+            return null;
+        } catch (ParseException | CommandException e) {
+            return e.getMessage();
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error running " + line + " : " + StringUtil.getDetails(e));
+            return String.format(MESSAGE_UNEXPECTED_ERROR, e);
+        }
+    }
+
+    private String getResultMessage(int commandCount, int totalCommandCount, int failureCount, List<String> failures,
+            int stoppedLineNumber) {
+        StringBuilder message = new StringBuilder();
+        if (stoppedLineNumber > 0) {
+            message.append(String.format(MESSAGE_STOPPED, stoppedLineNumber, scriptPath, commandCount,
+                    totalCommandCount));
+        } else {
+            message.append(String.format(MESSAGE_SUCCESS, commandCount, totalCommandCount, scriptPath));
+        }
+        if (failureCount == 0) {
+            return message.toString();
+        }
+
+        if (stoppedLineNumber == 0) {
+            message.append(' ').append(String.format(MESSAGE_FAILURES, failureCount));
+        }
+        failures.forEach(failure -> message.append('\n').append(failure));
+        if (failureCount > failures.size()) {
+            message.append('\n').append(String.format(MESSAGE_MORE_FAILURES, failureCount - failures.size()));
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && isStopOnError == otherRunCommand.isStopOnError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("isStopOnError", isStopOnError)
+                .toString();
+    }
+}
@@ -6,13 +6,13 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -252,8 +252,7 @@ public class ScheduleCommand extends Command {
      * @return A string representation of the date in "dd/MM/yyyy" format.
      */
     public String formatDate(LocalDate date) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        return date.format(dateFormatter);
+        return DateTimeUtil.formatDate(date);
     }
 
     /**
@@ -263,8 +262,7 @@ public class ScheduleCommand extends Command {
      * @return A string representation of the time in "HH:mm" format.
      */
     public String formatTime(LocalTime time) {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-        return time.format(timeFormatter);
+        return DateTimeUtil.formatTime(time);
     }
 
     /**
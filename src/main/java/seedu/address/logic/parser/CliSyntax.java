@@ -18,4 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_CHECKUPS = new Prefix("c/");
     public static final Prefix PREFIX_NOK = new Prefix("nok/");
     public static final Prefix PREFIX_MEDICAL_HISTORY = new Prefix("mh/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_STOP_ON_ERROR = new Prefix("stop/");
 }
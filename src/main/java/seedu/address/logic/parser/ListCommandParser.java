@@ -1,5 +1,12 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Appointment;
@@ -9,6 +16,11 @@ import seedu.address.model.person.Appointment;
  */
 public class ListCommandParser implements Parser<ListCommand> {
 
+    public static final String CHECKUP_RANGE_KEYWORD = "checkups";
+    public static final String MESSAGE_INVALID_CHECKUP_RANGE = "Invalid checkup range! Use: "
+            + "list checkups from/DD/MM/YYYY [HHmm] to/DD/MM/YYYY [HHmm]";
+    public static final String MESSAGE_CHECKUP_RANGE_REVERSED = "The from/ date must not be after the to/ date.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the ListCommand
      * and returns a ListCommand object for execution.
@@ -19,6 +31,7 @@ public class ListCommandParser implements Parser<ListCommand> {
 
         boolean isEmpty = trimmedArgs.isEmpty();
         boolean isCheckup = trimmedArgs.equals("checkup");
+        boolean isCheckupRange = trimmedArgs.split("\\s+")[0].equals(CHECKUP_RANGE_KEYWORD);
         boolean isValidAppointment = Appointment.isValidAppointment(trimmedArgs);
 
         if (isEmpty) {
@@ -29,10 +42,64 @@ public class ListCommandParser implements Parser<ListCommand> {
             return new ListCommand(true);
         }
 
+        if (isCheckupRange) {
+            return parseCheckupRange(trimmedArgs.substring(CHECKUP_RANGE_KEYWORD.length()));
+        }
+
         if (!isValidAppointment) {
             throw new ParseException("Invalid input type! Only 'nurse', 'patient' or 'checkup' are allowed.");
         }
 
-        return new ListCommand(new Appointment(trimmedArgs));
+        return new ListCommand(Appointment.of(trimmedArgs));
+    }
+
+    /**
+     * Parses the {@code from/} and {@code to/} bounds of a checkup range.
+     * A bound without a time covers the whole day.
+     */
+    private ListCommand parseCheckupRange(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIX_FROM, PREFIX_TO);
+        if (!argMultimap.getPreamble().isEmpty()
+                || argMultimap.getValue(PREFIX_FROM).isEmpty()
+                || argMultimap.getValue(PREFIX_TO).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_CHECKUP_RANGE);
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDateTime from = parseRangeBound(argMultimap.getValue(PREFIX_FROM).get(), LocalTime.MIN);
+        LocalDateTime to = parseRangeBound(argMultimap.getValue(PREFIX_TO).get(), LocalTime.MAX);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_CHECKUP_RANGE_REVERSED);
+        }
+        return new ListCommand(from, to);
+    }
+
+    /**
+     * Parses a bound given as a date, optionally followed by whitespace and a time.
+     */
+    private static LocalDateTime parseRangeBound(String bound, LocalTime defaultTime) throws ParseException {
+        String trimmedBound = bound.trim();
+        int dateEnd = 0;
+        while (dateEnd < trimmedBound.length() && !Character.isWhitespace(trimmedBound.charAt(dateEnd))) {
+            dateEnd++;
+        }
+        int timeStart = dateEnd;
+        while (timeStart < trimmedBound.length() && Character.isWhitespace(trimmedBound.charAt(timeStart))) {
+            timeStart++;
+        }
+        String date = trimmedBound.substring(0, dateEnd);
+        String time = trimmedBound.substring(timeStart);
+        if (!DateTimeUtil.isDateFormat(date)) {
+            throw new ParseException(MESSAGE_INVALID_CHECKUP_RANGE);
+        }
+        if (!time.isEmpty() && !DateTimeUtil.isValidInputTime(time)) {
+            throw new ParseException(MESSAGE_INVALID_CHECKUP_RANGE);
+        }
+        if (!DateTimeUtil.isValidDate(date)) {
+            throw new ParseException(ScheduleCommandParser.INVALID_DAY_FOR_MONTH);
+        }
+
+        return LocalDateTime.of(DateTimeUtil.parseDate(date),
+                time.isEmpty() ? defaultTime : DateTimeUtil.parseInputTime(time));
     }
 }
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -27,6 +28,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile(" +");
+    private static final int MAX_PHONE_DIGITS = 17;
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -80,9 +84,8 @@ public class ParserUtil {
      */
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
-        String trimmedPhone = phone.trim().replaceAll(" +", " ");
-        String testPhone = trimmedPhone.replaceAll(" ", "");
-        boolean isValidLength = testPhone.length() <= 17;
+        String trimmedPhone = MULTIPLE_SPACES.matcher(phone.trim()).replaceAll(" ");
+        boolean isValidLength = trimmedPhone.chars().filter(c -> c != ' ').count() <= MAX_PHONE_DIGITS;
         if (!Phone.isValidPhone(trimmedPhone) || !isValidLength) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
@@ -132,7 +135,7 @@ public class ParserUtil {
         if (!BloodType.isValidBloodType(trimmedBloodType)) {
             throw new ParseException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        return new BloodType(trimmedBloodType);
+        return BloodType.of(trimmedBloodType);
     }
 
     /**
@@ -147,7 +150,7 @@ public class ParserUtil {
         if (!Appointment.isValidAppointment(trimmedAppointment)) {
             throw new ParseException(Appointment.MESSAGE_CONSTRAINTS);
         }
-        return new Appointment(trimmedAppointment);
+        return Appointment.of(trimmedAppointment);
     }
 
     /**
@@ -162,7 +165,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
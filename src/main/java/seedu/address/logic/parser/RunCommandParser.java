@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object.
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script file path: %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STOP_ON_ERROR);
+        String scriptPath = argMultimap.getPreamble();
+        if (scriptPath.isEmpty()
+                || argMultimap.getValue(PREFIX_STOP_ON_ERROR).map(value -> !value.isEmpty()).orElse(false)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STOP_ON_ERROR);
+
+        if (!FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_SCRIPT_PATH, scriptPath));
+        }
+        return new RunCommand(Paths.get(scriptPath), argMultimap.getValue(PREFIX_STOP_ON_ERROR).isPresent());
+    }
+}
@@ -5,11 +5,11 @@ import static seedu.address.logic.commands.ScheduleCommand.MESSAGE_USAGE;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelManager;
@@ -18,8 +18,6 @@ import seedu.address.model.ModelManager;
  * Parses input arguments and creates a ScheduleCommand.
  */
 public class ScheduleCommandParser implements Parser<ScheduleCommand> {
-    public static final String DATE_VALIDATION_REGEX = "^(0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[0-2])/\\d{4}$";
-    public static final String TIME_VALIDATION_REGEX = "^([01][0-9]|2[0-3])[0-5][0-9]$";
     public static final String MISSING_FIRST_PARAMETER = "Please include 'add for patient' or "
             + "'delete for patient' after 'schedule'";
     public static final String MISSING_INDEX = "Please include 'index' of patient";
@@ -115,10 +113,13 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         try {
             String dateString = parsedArgument[4];
 
-            if (!dateString.matches(DATE_VALIDATION_REGEX)) {
+            if (!DateTimeUtil.isDateFormat(dateString)) {
                 throw new ParseException(INVALID_DATE_FORMAT + "\n" + MESSAGE_USAGE);
             }
-            return getLocalDate(dateString);
+            if (!DateTimeUtil.isValidDate(dateString)) {
+                throw new ParseException(INVALID_DAY_FOR_MONTH + "\n" + MESSAGE_USAGE);
+            }
+            return DateTimeUtil.parseDate(dateString);
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new ParseException(MISSING_DATE + "\n" + MESSAGE_USAGE);
         } catch (Exception e) {
@@ -126,19 +127,6 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         }
     }
 
-    private static LocalDate getLocalDate(String dateString) throws ParseException {
-        String[] dateParts = dateString.split("/");
-        int day = Integer.parseInt(dateParts[0]);
-        int month = Integer.parseInt(dateParts[1]);
-        int year = Integer.parseInt(dateParts[2]);
-
-        if (day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()) {
-            throw new ParseException(INVALID_DAY_FOR_MONTH + "\n" + MESSAGE_USAGE);
-        }
-
-        return LocalDate.of(year, month, day);
-    }
-
     /**
      * Retrieves and parses the checkup time from the input arguments.
      *
@@ -150,11 +138,10 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
         String[] parsedArgument = parseArguments(trimmedArgs);
         try {
             String timeString = parsedArgument[5];
-            if (!timeString.matches(TIME_VALIDATION_REGEX)) {
+            if (!DateTimeUtil.isValidInputTime(timeString)) {
                 throw new ParseException(INVALID_TIME_FORMAT + "\n" + MESSAGE_USAGE);
             }
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HHmm");
-            return LocalTime.parse(timeString, formatter);
+            return DateTimeUtil.parseInputTime(timeString);
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new ParseException(MISSING_TIME + "\n" + MESSAGE_USAGE);
         }
@@ -2,11 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.AssignmentGraph;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonColumns;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +23,11 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final AssignmentGraph assignments;
+
+    // The indexes the persons were last set with, if any, which hold while the persons are at indexesVersion.
+    private PrebuiltIndexes indexes;
+    private long indexesVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +38,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        assignments = new AssignmentGraph();
     }
 
     public AddressBook() {}
@@ -43,18 +56,40 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the person list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The indexes of the persons are built as they are set, without {@link PrebuiltIndexes}.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        assignments.reset(this.persons.asUnmodifiableObservableList());
+        indexes = null;
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, restoring the indexes of the persons from
+     * {@code indexes} rather than building them. {@code indexes} must have been built from {@code persons}.
+     */
+    public void setPersons(List<Person> persons, PrebuiltIndexes indexes) {
+        this.persons.setPersons(persons, indexes);
+        assignments.restore(this.persons.asUnmodifiableObservableList(), indexes);
+        this.indexes = indexes;
+        indexesVersion = this.persons.getVersion();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The indexes prebuilt by {@code newData}, if any, are restored rather than built again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        List<Person> newPersons = newData.getPersonList();
+        Optional<PrebuiltIndexes> newIndexes = newData.getPrebuiltIndexes()
+                .filter(prebuiltIndexes -> prebuiltIndexes.getPersonCount() == newPersons.size());
+        if (newIndexes.isPresent()) {
+            setPersons(newPersons, newIndexes.get());
+        } else {
+            setPersons(newPersons);
+        }
     }
 
     //// person-level operations
@@ -68,22 +103,38 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Returns the person with the given {@code id}, if it is in the address book.
+     */
+    public Optional<Person> getPersonById(long id) {
+        return persons.getById(id);
+    }
+
+    /**
+     * Adds a person to the address book, assigning it an ID if it does not have one.
      * The person must not already exist in the address book.
+     *
+     * @return the person as stored in the address book.
      */
-    public void addPerson(Person p) {
-        persons.add(p);
+    public Person addPerson(Person p) {
+        Person storedPerson = persons.add(p);
+        assignments.add(storedPerson);
+        return storedPerson;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} takes over the ID of {@code target}.
+     *
+     * @return {@code editedPerson} as stored in the address book.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person storedPerson = persons.setPerson(target, editedPerson);
+        assignments.replace(target, storedPerson);
+        return storedPerson;
     }
 
     /**
@@ -91,11 +142,66 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        Person removedPerson = persons.remove(key);
+        assignments.remove(removedPerson);
+    }
+
+    /**
+     * Returns the persons with a name containing any of {@code keywords}, ignoring case.
+     */
+    public List<Person> findPersonsByName(Collection<String> keywords) {
+        return persons.findByName(keywords);
+    }
+
+    /**
+     * Returns the number of modifications made to the persons of this address book so far.
+     */
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    /**
+     * Returns a columnar mirror of the persons list for bulk filters and aggregates.
+     */
+    public PersonColumns getColumns() {
+        return persons.getColumns();
+    }
+
+    //// assignment-level operations
+
+    /**
+     * Returns the patients assigned to the nurse named {@code nurseName}, in the order of the persons list.
+     */
+    public List<Person> getPatientsAssignedTo(Name nurseName) {
+        List<Person> patients = assignments.getPatientsOf(nurseName);
+        patients.sort(Comparator.comparingInt(persons::indexOf));
+        return patients;
+    }
+
+    /**
+     * Returns true if at least one patient is assigned to the nurse named {@code nurseName}.
+     */
+    public boolean hasPatientsAssignedTo(Name nurseName) {
+        return assignments.hasPatients(nurseName);
+    }
+
+    /**
+     * Returns the names of the nurses assigned to {@code patient}.
+     */
+    public Set<String> getNursesAssignedTo(Person patient) {
+        return assignments.getNursesOf(patient);
     }
 
     //// util methods
 
+    /**
+     * Returns the indexes the persons were last set with, unless they were set without any or have changed since.
+     */
+    @Override
+    public Optional<PrebuiltIndexes> getPrebuiltIndexes() {
+        return indexes != null && indexesVersion == persons.getVersion() ? Optional.of(indexes) : Optional.empty();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -0,0 +1,28 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book can be saved in, as selected in the user prefs.
+ */
+public enum AddressBookFormat {
+
+    /** A pretty-printed json file. */
+    JSON,
+
+    /** A json file on a single line. */
+    COMPACT_JSON,
+
+    /** A json snapshot plus a journal of the changes made since. */
+    JOURNALED_JSON,
+
+    /** A binary file next to the json file, storing every distinct string once. */
+    BINARY,
+
+    /** Segment files of ID ranges plus a manifest, in a directory next to the json file. */
+    SEGMENTED,
+
+    /**
+     * A file of persons plus a file of their next of kin and medical history, which are loaded only when needed,
+     * in a directory next to the json file.
+     */
+    SPLIT
+}
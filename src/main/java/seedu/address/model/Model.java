@@ -1,10 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -56,6 +60,11 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,6 +89,28 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the patients assigned to the nurse named {@code nurseName}, in the order they are listed when all
+     * persons are shown.
+     */
+    List<Person> getPatientsAssignedTo(Name nurseName);
+
+    /**
+     * Returns true if at least one patient is assigned to the nurse named {@code nurseName}.
+     */
+    boolean hasPatientsAssignedTo(Name nurseName);
+
+    /**
+     * Returns the names of the nurses assigned to {@code patient}.
+     */
+    Set<String> getNursesAssignedTo(Person patient);
+
+    /**
+     * Returns the persons with at least one checkup between {@code from} and {@code to}, both inclusive,
+     * ordered by their earliest checkup in that range.
+     */
+    List<Person> getPersonsWithCheckupsBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Returns an unmodifiable view of the filtered person list
      */
@@ -96,4 +127,10 @@ public interface Model {
      * Sorts the filtered person list in ascending order based on the earliest checkup date.
      */
     void updateFilteredPersonListByEarliestCheckup(Predicate<Person> predicate);
+
+    /**
+     * Updates the filtered person list to show only persons with a checkup between {@code from} and {@code to},
+     * both inclusive, sorted by their earliest checkup in that range.
+     */
+    void updateFilteredPersonListByCheckupsBetween(LocalDateTime from, LocalDateTime to);
 }
@@ -6,27 +6,65 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.model.checkup.Checkup;
+import seedu.address.model.checkup.CheckupTimeline;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAppointmentPredicate;
+import seedu.address.model.person.PersonHasCheckupPredicate;
+import seedu.address.model.person.PersonIdentityKey;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * The displayed person list mirrors one of several views of the address book. The views used by {@code list}
+ * (all persons, nurses, patients and persons with checkups) are kept sorted and filtered at all times and are
+ * updated element by element as persons change, so switching to one of them only copies that view.
+ * Name keyword searches are answered from the name index of the address book, and their matches are kept in
+ * a view of their own that is updated as persons are edited or deleted.
+ * Any other predicate is served by a general filtered and sorted view.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final Comparator<Person> BY_NAME = Comparator.comparing(person -> person.getName().toString());
+    private static final Comparator<Person> BY_EARLIEST_CHECKUP =
+            Comparator.comparing(Person::getEarliestCheckupDateTime);
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private final SortedList<Person> allPersonsByName;
+    private final SortedList<Person> nursesByName;
+    private final SortedList<Person> patientsByName;
+    private final SortedList<Person> personsWithCheckupsByEarliestCheckup;
+    private final ObservableList<Person> nameMatches = FXCollections.observableArrayList();
+    private final SortedList<Person> nameMatchesByName = new SortedList<>(nameMatches, BY_NAME);
+    private NameContainsKeywordsPredicate nameMatchesPredicate;
+    private final ObservableList<Person> checkupRangeMatches = FXCollections.observableArrayList();
+    private LocalDateTime checkupRangeFrom;
+    private LocalDateTime checkupRangeTo;
+    private final ObservableList<Person> displayedPersons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableDisplayedPersons =
+            FXCollections.unmodifiableObservableList(displayedPersons);
+    private final ListChangeListener<Person> displayedViewListener = this::mirrorDisplayedViewChange;
+    private ObservableList<Person> displayedView;
+    private final CheckupTimeline checkupTimeline;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -38,8 +76,16 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        ObservableList<Person> persons = this.addressBook.getPersonList();
+        filteredPersons = new FilteredList<>(persons);
         sortedPersons = new SortedList<>(filteredPersons);
+        allPersonsByName = new SortedList<>(persons, BY_NAME);
+        nursesByName = new SortedList<>(new FilteredList<>(persons, Person::isNurse), BY_NAME);
+        patientsByName = new SortedList<>(new FilteredList<>(persons, Person::isPatient), BY_NAME);
+        personsWithCheckupsByEarliestCheckup =
+                new SortedList<>(new FilteredList<>(persons, Person::hasCheckup), BY_EARLIEST_CHECKUP);
+        checkupTimeline = new CheckupTimeline();
+        resetCheckupTimeline();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -87,6 +133,25 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        resetCheckupTimeline();
+        if (nameMatchesPredicate != null) {
+            nameMatches.setAll(this.addressBook.findPersonsByName(nameMatchesPredicate.getKeywords()));
+        }
+        refreshCheckupRangeMatches();
+    }
+
+    /**
+     * Rebuilds the checkup timeline from the persons of the address book, restoring it from the indexes the address
+     * book was reset with, if any.
+     */
+    private void resetCheckupTimeline() {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        Optional<PrebuiltIndexes> indexes = addressBook.getPrebuiltIndexes();
+        if (indexes.isPresent()) {
+            checkupTimeline.restore(persons, indexes.get());
+        } else {
+            checkupTimeline.reset(persons);
+        }
     }
 
     @Override
@@ -94,6 +159,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -103,11 +173,16 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        checkupTimeline.remove(target);
+        removeNameMatch(target);
+        refreshCheckupRangeMatches();
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        Person storedPerson = addressBook.addPerson(person);
+        checkupTimeline.add(storedPerson);
+        addNameMatch(storedPerson);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -115,7 +190,38 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        Person storedPerson = addressBook.setPerson(target, editedPerson);
+        checkupTimeline.replace(target, storedPerson);
+        removeNameMatch(target);
+        addNameMatch(storedPerson);
+        refreshCheckupRangeMatches();
+    }
+
+    @Override
+    public List<Person> getPatientsAssignedTo(Name nurseName) {
+        requireNonNull(nurseName);
+        // a stable sort of the persons list order, as the list of all persons is sorted
+        List<Person> patients = addressBook.getPatientsAssignedTo(nurseName);
+        patients.sort(BY_NAME);
+        return patients;
+    }
+
+    @Override
+    public boolean hasPatientsAssignedTo(Name nurseName) {
+        requireNonNull(nurseName);
+        return addressBook.hasPatientsAssignedTo(nurseName);
+    }
+
+    @Override
+    public Set<String> getNursesAssignedTo(Person patient) {
+        requireNonNull(patient);
+        return addressBook.getNursesAssignedTo(patient);
+    }
+
+    @Override
+    public List<Person> getPersonsWithCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return checkupTimeline.getPersonsBetween(from, to);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -126,31 +232,113 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return sortedPersons;
+        return unmodifiableDisplayedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
-        updateFilteredPersonListHelper(predicate);
-
-        sortedPersons.setComparator(Comparator.comparing(person -> person.getName().toString()));
+        requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            displayView(allPersonsByName);
+        } else if (predicate instanceof PersonHasAppointmentPredicate) {
+            Appointment appointment = ((PersonHasAppointmentPredicate) predicate).getAppointment();
+            displayView(appointment.isNurse() ? nursesByName : patientsByName);
+        } else if (predicate instanceof NameContainsKeywordsPredicate) {
+            displayNameMatches((NameContainsKeywordsPredicate) predicate);
+        } else {
+            displayFilteredView(predicate, BY_NAME);
+        }
     }
 
     @Override
     public void updateFilteredPersonListByEarliestCheckup(Predicate<Person> predicate) {
-        updateFilteredPersonListHelper(predicate);
+        requireNonNull(predicate);
+        if (predicate instanceof PersonHasCheckupPredicate) {
+            displayView(personsWithCheckupsByEarliestCheckup);
+        } else {
+            displayFilteredView(predicate, BY_EARLIEST_CHECKUP);
+        }
+    }
 
-        sortedPersons.setComparator(Comparator.comparing(
-                person -> person.getCheckups().stream()
-                        .map(Checkup::getDateTime)
-                        .min(LocalDateTime::compareTo)
-                        .orElse(LocalDateTime.MAX)
-        ));
+    @Override
+    public void updateFilteredPersonListByCheckupsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        checkupRangeFrom = from;
+        checkupRangeTo = to;
+        checkupRangeMatches.setAll(checkupTimeline.getPersonsBetween(from, to));
+        displayView(checkupRangeMatches);
     }
 
-    private void updateFilteredPersonListHelper(Predicate<Person> predicate) {
-        requireNonNull(predicate);
+    /**
+     * Looks up the persons with checkups in the displayed checkup range again through the checkup timeline, if the
+     * range is displayed, so that only the persons in the range are visited rather than every person.
+     */
+    private void refreshCheckupRangeMatches() {
+        if (displayedView == checkupRangeMatches) {
+            checkupRangeMatches.setAll(checkupTimeline.getPersonsBetween(checkupRangeFrom, checkupRangeTo));
+        }
+    }
+
+    /**
+     * Displays the persons matched by {@code predicate}, looked up through the name index.
+     */
+    private void displayNameMatches(NameContainsKeywordsPredicate predicate) {
+        nameMatchesPredicate = predicate;
+        nameMatches.setAll(addressBook.findPersonsByName(predicate.getKeywords()));
+        displayView(nameMatchesByName);
+    }
+
+    private void addNameMatch(Person person) {
+        if (nameMatchesPredicate != null && nameMatchesPredicate.test(person)) {
+            nameMatches.add(person);
+        }
+    }
+
+    private void removeNameMatch(Person person) {
+        if (nameMatchesPredicate != null) {
+            PersonIdentityKey key = person.getIdentityKey();
+            nameMatches.removeIf(match -> match.getIdentityKey().equals(key));
+        }
+    }
+
+    private void displayFilteredView(Predicate<Person> predicate, Comparator<Person> comparator) {
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
+        displayView(sortedPersons);
+    }
+
+    /**
+     * Makes the displayed person list mirror {@code view}.
+     */
+    private void displayView(ObservableList<Person> view) {
+        if (view == displayedView) {
+            return;
+        }
+
+        if (displayedView != null) {
+            displayedView.removeListener(displayedViewListener);
+        }
+        displayedView = view;
+        displayedPersons.setAll(view);
+        view.addListener(displayedViewListener);
+    }
+
+    /**
+     * Applies a change of the displayed view to the displayed person list.
+     */
+    private void mirrorDisplayedViewChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                displayedPersons.setAll(displayedView);
+                return;
+            }
+            if (change.wasRemoved()) {
+                displayedPersons.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                displayedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
     }
 
     @Override
@@ -167,7 +355,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && displayedPersons.equals(otherModelManager.displayedPersons);
     }
 
 }
@@ -0,0 +1,236 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import seedu.address.model.assignment.AssignmentGraph;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * The contents of the {@link NameIndex}, {@link AssignmentGraph} and {@code CheckupTimeline} of a list of persons,
+ * with persons referred to by their position in the list, so that the indexes can be kept apart from the persons
+ * (e.g. in a file next to the data file) and restored over the same list without going through every person again.
+ *
+ * The name index is held as its tokens, the positions of the persons posted under each token, its grams and the
+ * tokens posted under each gram. The assignment graph is held as the positions of the assigned patients and the
+ * nurse names recorded for each. The checkup timeline is held as its checkup times in ascending order and the
+ * positions of the persons with a checkup at each time. Positions are in ascending order.
+ *
+ * The arrays are shared rather than copied, and must not be modified.
+ */
+public final class PrebuiltIndexes {
+
+    /** The number of persons from which the indexes are built by all processors. */
+    public static final int PARALLEL_BUILD_THRESHOLD = 4096;
+
+    private final int personCount;
+    private final String[] tokens;
+    private final int[][] tokenPersons;
+    private final String[] grams;
+    private final int[][] gramTokens;
+    private final int[] patients;
+    private final String[][] patientNurses;
+    private final LocalDateTime[] checkupTimes;
+    private final int[][] checkupPersons;
+
+    /**
+     * Constructs {@code PrebuiltIndexes} of a list of {@code personCount} persons.
+     *
+     * @throws IllegalArgumentException if the arrays do not pair up, or refer to persons or tokens that do not exist,
+     *     or the checkup times are not in ascending order.
+     */
+    public PrebuiltIndexes(int personCount, String[] tokens, int[][] tokenPersons, String[] grams,
+            int[][] gramTokens, int[] patients, String[][] patientNurses, LocalDateTime[] checkupTimes,
+            int[][] checkupPersons) {
+        checkArgument(personCount >= 0, "Negative person count");
+        checkArgument(tokens.length == tokenPersons.length, "Tokens without persons");
+        checkArgument(grams.length == gramTokens.length, "Grams without tokens");
+        checkArgument(patients.length == patientNurses.length, "Patients without nurses");
+        checkArgument(checkupTimes.length == checkupPersons.length, "Checkup times without persons");
+        checkPositions(tokenPersons, personCount);
+        checkPositions(gramTokens, tokens.length);
+        checkPositions(new int[][] {patients}, personCount);
+        checkPositions(checkupPersons, personCount);
+        for (int i = 1; i < checkupTimes.length; i++) {
+            checkArgument(checkupTimes[i - 1].isBefore(checkupTimes[i]), "Checkup times out of order");
+        }
+
+        this.personCount = personCount;
+        this.tokens = tokens;
+        this.tokenPersons = tokenPersons;
+        this.grams = grams;
+        this.gramTokens = gramTokens;
+        this.patients = patients;
+        this.patientNurses = patientNurses;
+        this.checkupTimes = checkupTimes;
+        this.checkupPersons = checkupPersons;
+    }
+
+    private static void checkPositions(int[][] positionLists, int count) {
+        for (int[] positions : positionLists) {
+            for (int i = 0; i < positions.length; i++) {
+                checkArgument(positions[i] >= 0 && positions[i] < count, "Position out of range");
+                checkArgument(i == 0 || positions[i - 1] < positions[i], "Positions out of order");
+            }
+        }
+    }
+
+    /**
+     * Builds the indexes of {@code persons}. The work of each person is spread over all processors once there are
+     * {@value #PARALLEL_BUILD_THRESHOLD} persons or more; only putting the results together is sequential.
+     */
+    public static PrebuiltIndexes build(List<Person> persons) {
+        requireNonNull(persons);
+        Person[] personArray = persons.toArray(new Person[0]);
+        boolean isParallel = personArray.length >= PARALLEL_BUILD_THRESHOLD;
+
+        String[][] tokensOfPersons = forEachPosition(personArray.length, isParallel)
+                .mapToObj(i -> distinct(NameIndex.toTokens(personArray[i].getName())))
+                .toArray(String[][]::new);
+        String[][] nursesOfPersons = forEachPosition(personArray.length, isParallel)
+                .mapToObj(i -> AssignmentGraph.getNurseNames(personArray[i]).toArray(new String[0]))
+                .toArray(String[][]::new);
+        LocalDateTime[][] checkupTimesOfPersons = forEachPosition(personArray.length, isParallel)
+                .mapToObj(i -> personArray[i].getCheckups().stream()
+                        .map(Checkup::getDateTime)
+                        .distinct()
+                        .toArray(LocalDateTime[]::new))
+                .toArray(LocalDateTime[][]::new);
+
+        Map<String, PositionList> personsByToken = new HashMap<>();
+        for (int i = 0; i < tokensOfPersons.length; i++) {
+            for (String token : tokensOfPersons[i]) {
+                personsByToken.computeIfAbsent(token, unused -> new PositionList()).add(i);
+            }
+        }
+        String[] tokens = personsByToken.keySet().toArray(new String[0]);
+        int[][] tokenPersons = Arrays.stream(tokens)
+                .map(token -> personsByToken.get(token).toArray())
+                .toArray(int[][]::new);
+
+        String[][] gramsOfTokens = forEachPosition(tokens.length, isParallel)
+                .mapToObj(i -> NameIndex.toGrams(tokens[i]))
+                .toArray(String[][]::new);
+        Map<String, PositionList> tokensByGram = new HashMap<>();
+        for (int i = 0; i < gramsOfTokens.length; i++) {
+            for (String gram : gramsOfTokens[i]) {
+                tokensByGram.computeIfAbsent(gram, unused -> new PositionList()).add(i);
+            }
+        }
+        String[] grams = tokensByGram.keySet().toArray(new String[0]);
+        int[][] gramTokens = Arrays.stream(grams)
+                .map(gram -> tokensByGram.get(gram).toArray())
+                .toArray(int[][]::new);
+
+        int[] patients = IntStream.range(0, nursesOfPersons.length)
+                .filter(i -> nursesOfPersons[i].length > 0)
+                .toArray();
+        String[][] patientNurses = Arrays.stream(patients)
+                .mapToObj(i -> nursesOfPersons[i])
+                .toArray(String[][]::new);
+
+        TreeMap<LocalDateTime, PositionList> personsByTime = new TreeMap<>();
+        for (int i = 0; i < checkupTimesOfPersons.length; i++) {
+            for (LocalDateTime time : checkupTimesOfPersons[i]) {
+                personsByTime.computeIfAbsent(time, unused -> new PositionList()).add(i);
+            }
+        }
+        LocalDateTime[] checkupTimes = personsByTime.keySet().toArray(new LocalDateTime[0]);
+        int[][] checkupPersons = personsByTime.values().stream()
+                .map(PositionList::toArray)
+                .toArray(int[][]::new);
+
+        return new PrebuiltIndexes(personArray.length, tokens, tokenPersons, grams, gramTokens, patients,
+                patientNurses, checkupTimes, checkupPersons);
+    }
+
+    private static IntStream forEachPosition(int count, boolean isParallel) {
+        IntStream positions = IntStream.range(0, count);
+        return isParallel ? positions.parallel() : positions;
+    }
+
+    private static String[] distinct(String[] values) {
+        return values.length < 2 ? values : new LinkedHashSet<>(Arrays.asList(values)).toArray(new String[0]);
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public String[] getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns the positions of the persons posted under each of {@link #getTokens()}.
+     */
+    public int[][] getTokenPersons() {
+        return tokenPersons;
+    }
+
+    public String[] getGrams() {
+        return grams;
+    }
+
+    /**
+     * Returns the positions in {@link #getTokens()} of the tokens posted under each of {@link #getGrams()}.
+     */
+    public int[][] getGramTokens() {
+        return gramTokens;
+    }
+
+    /**
+     * Returns the positions of the persons assigned to at least one nurse.
+     */
+    public int[] getPatients() {
+        return patients;
+    }
+
+    /**
+     * Returns the nurse names recorded for each of {@link #getPatients()}, in the order of their tags.
+     */
+    public String[][] getPatientNurses() {
+        return patientNurses;
+    }
+
+    public LocalDateTime[] getCheckupTimes() {
+        return checkupTimes;
+    }
+
+    /**
+     * Returns the positions of the persons with a checkup at each of {@link #getCheckupTimes()}.
+     */
+    public int[][] getCheckupPersons() {
+        return checkupPersons;
+    }
+
+    /**
+     * A growable list of positions, in the order they were added.
+     */
+    private static class PositionList {
+        private int[] positions = new int[2];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
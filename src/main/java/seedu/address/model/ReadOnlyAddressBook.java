@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the indexes of the persons list, if they were built beforehand, so that they can be restored rather
+     * than built again.
+     */
+    default Optional<PrebuiltIndexes> getPrebuiltIndexes() {
+        return Optional.empty();
+    }
+
 }
@@ -13,4 +13,15 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format the address book is saved in.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if the address book is saved by a background thread after each command, instead of before the
+     * command returns.
+     */
+    boolean isAddressBookWriteBehind();
+
 }
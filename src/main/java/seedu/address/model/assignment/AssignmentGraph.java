@@ -0,0 +1,184 @@
+package seedu.address.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityKey;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A bidirectional index of nurse-patient assignments.
+ * Assignments are persisted as {@code "Nurse NAME"} tags on the patient, so the graph is derived from the tags of
+ * every person added to it and has to be updated whenever a person is added, replaced or removed.
+ * Nurses are keyed by their upper-cased name; patients by their {@link PersonIdentityKey}.
+ * The nurse names recorded for each patient keep the spelling used in the patient's tags.
+ */
+public class AssignmentGraph {
+
+    public static final String NURSE_TAG_PREFIX = "Nurse";
+
+    private final Map<String, Map<PersonIdentityKey, Person>> patientsByNurse = new HashMap<>();
+    private final Map<PersonIdentityKey, Set<String>> nursesByPatient = new HashMap<>();
+
+    /**
+     * Returns the tag recording that a patient is assigned to the nurse named {@code nurseName}.
+     */
+    public static Tag toNurseTag(Name nurseName) {
+        requireNonNull(nurseName);
+        return Tag.of(NURSE_TAG_PREFIX + " " + nurseName.fullName);
+    }
+
+    /**
+     * Returns true if {@code tag} records an assignment to a nurse, i.e. starts with {@value #NURSE_TAG_PREFIX}.
+     */
+    public static boolean isNurseTag(Tag tag) {
+        return tag.tagName.startsWith(NURSE_TAG_PREFIX);
+    }
+
+    /**
+     * Returns the name of the nurse recorded by {@code tag}.
+     * {@code tag} must be a nurse tag.
+     */
+    public static String toNurseName(Tag tag) {
+        assert isNurseTag(tag);
+        return tag.tagName.substring(NURSE_TAG_PREFIX.length()).trim();
+    }
+
+    private static String toNurseKey(String nurseName) {
+        return nurseName.toUpperCase();
+    }
+
+    /**
+     * Returns the names of the nurses that {@code person} is assigned to, as recorded in its tags.
+     */
+    public static Set<String> getNurseNames(Person person) {
+        requireNonNull(person);
+        Set<String> nurses = new LinkedHashSet<>();
+        for (Tag tag : person.getTags()) {
+            if (isNurseTag(tag)) {
+                nurses.add(toNurseName(tag));
+            }
+        }
+        return nurses;
+    }
+
+    /**
+     * Adds the assignments recorded in the tags of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Set<String> nurses = getNurseNames(person);
+        if (nurses.isEmpty()) {
+            return;
+        }
+
+        nursesByPatient.put(person.getIdentityKey(), nurses);
+        for (String nurse : nurses) {
+            patientsByNurse.computeIfAbsent(toNurseKey(nurse), unused -> new LinkedHashMap<>())
+                    .put(person.getIdentityKey(), person);
+        }
+    }
+
+    /**
+     * Removes the assignments of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Set<String> nurses = nursesByPatient.remove(person.getIdentityKey());
+        if (nurses == null) {
+            return;
+        }
+
+        for (String nurse : nurses) {
+            String nurseKey = toNurseKey(nurse);
+            Map<PersonIdentityKey, Person> patients = patientsByNurse.get(nurseKey);
+            if (patients == null) {
+                continue;
+            }
+            patients.remove(person.getIdentityKey());
+            if (patients.isEmpty()) {
+                patientsByNurse.remove(nurseKey);
+            }
+        }
+    }
+
+    /**
+     * Replaces the assignments of {@code target} with those of {@code editedPerson}.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces all assignments with those of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        patientsByNurse.clear();
+        nursesByPatient.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces all assignments with the assignment graph of {@code indexes}, which must have been built from
+     * {@code persons}.
+     */
+    public void restore(List<Person> persons, PrebuiltIndexes indexes) {
+        requireAllNonNull(persons, indexes);
+        assert indexes.getPersonCount() == persons.size();
+        patientsByNurse.clear();
+        nursesByPatient.clear();
+
+        int[] patients = indexes.getPatients();
+        String[][] patientNurses = indexes.getPatientNurses();
+        for (int i = 0; i < patients.length; i++) {
+            Person patient = persons.get(patients[i]);
+            Set<String> nurses = new LinkedHashSet<>(Arrays.asList(patientNurses[i]));
+            nursesByPatient.put(patient.getIdentityKey(), nurses);
+            for (String nurse : nurses) {
+                patientsByNurse.computeIfAbsent(toNurseKey(nurse), unused -> new LinkedHashMap<>())
+                        .put(patient.getIdentityKey(), patient);
+            }
+        }
+    }
+
+    /**
+     * Returns the patients assigned to the nurse named {@code nurseName}, in the order they were assigned.
+     */
+    public List<Person> getPatientsOf(Name nurseName) {
+        requireNonNull(nurseName);
+        Map<PersonIdentityKey, Person> patients = patientsByNurse.get(toNurseKey(nurseName.fullName));
+        return patients == null ? Collections.emptyList() : new ArrayList<>(patients.values());
+    }
+
+    /**
+     * Returns true if at least one patient is assigned to the nurse named {@code nurseName}.
+     */
+    public boolean hasPatients(Name nurseName) {
+        requireNonNull(nurseName);
+        return patientsByNurse.containsKey(toNurseKey(nurseName.fullName));
+    }
+
+    /**
+     * Returns the names of the nurses assigned to {@code patient}, as recorded in the patient's tags.
+     */
+    public Set<String> getNursesOf(Person patient) {
+        requireNonNull(patient);
+        Set<String> nurses = nursesByPatient.get(patient.getIdentityKey());
+        return nurses == null ? Collections.emptySet() : Collections.unmodifiableSet(nurses);
+    }
+}
@@ -6,9 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -46,6 +46,41 @@ public class Checkup {
         this.checkupDateTime = createCheckupDateTime(checkupDate, checkupTime);
     }
 
+    private Checkup(LocalDateTime checkupDateTime) {
+        this.isAdding = true;
+        this.checkupDateTime = checkupDateTime;
+    }
+
+    /**
+     * Returns a checkup at {@code checkupDateTime}, as the checkup constructor would when adding it, without
+     * validating it. In particular, the checkup may be in the past, as for {@link #ofStored(LocalDate, LocalTime)}.
+     * Only for checkups read back from data this app saved and found unchanged since.
+     */
+    public static Checkup ofTrusted(LocalDateTime checkupDateTime) {
+        requireNonNull(checkupDateTime);
+        return new Checkup(checkupDateTime);
+    }
+
+    /**
+     * Returns a checkup at {@code checkupDate} and {@code checkupTime} read back from storage, validated as a checkup
+     * this app could have saved. Unlike the checkup constructor when adding, this accepts checkups that have passed
+     * since they were saved, as {@link #ofTrusted(LocalDateTime)} does.
+     *
+     * @throws ParseException If the checkup is outside business hours or not in blocks of 15 minutes.
+     */
+    public static Checkup ofStored(LocalDate checkupDate, LocalTime checkupTime) throws ParseException {
+        requireNonNull(checkupDate);
+        requireNonNull(checkupTime);
+        LocalDateTime checkupDateTime = createCheckupDateTime(checkupDate, checkupTime);
+        if (!isWithinBusinessHours(checkupDateTime)) {
+            throw new ParseException(MESSAGE_OUTSIDE_BUSINESS_HOURS);
+        }
+        if (!isNotFifteen(checkupDateTime)) {
+            throw new ParseException(MESSAGE_FIFTEEN);
+        }
+        return new Checkup(checkupDateTime);
+    }
+
     /**
      * Checks that both date and time are non-null.
      *
@@ -170,7 +205,6 @@ public class Checkup {
 
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return checkupDateTime.format(formatter);
+        return DateTimeUtil.formatDateTime(checkupDateTime);
     }
 }
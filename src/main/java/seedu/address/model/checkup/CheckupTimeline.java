@@ -0,0 +1,127 @@
+package seedu.address.model.checkup;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityKey;
+
+/**
+ * A chronological index of every scheduled checkup and the person it belongs to.
+ * Persons are keyed by their {@link PersonIdentityKey}, so the timeline has to be updated whenever a person is added,
+ * replaced or removed. Range queries take time logarithmic in the number of checkups plus the size of the result.
+ */
+public class CheckupTimeline {
+
+    private final NavigableMap<LocalDateTime, Map<PersonIdentityKey, Person>> personsByTime = new TreeMap<>();
+    private final Map<PersonIdentityKey, Set<LocalDateTime>> timesByPerson = new HashMap<>();
+
+    /**
+     * Adds the checkups of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (person.getCheckups().isEmpty()) {
+            return;
+        }
+
+        Set<LocalDateTime> times = person.getCheckups().stream()
+                .map(Checkup::getDateTime)
+                .collect(Collectors.toSet());
+        timesByPerson.put(person.getIdentityKey(), times);
+        for (LocalDateTime time : times) {
+            personsByTime.computeIfAbsent(time, unused -> new LinkedHashMap<>())
+                    .put(person.getIdentityKey(), person);
+        }
+    }
+
+    /**
+     * Removes the checkups of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Set<LocalDateTime> times = timesByPerson.remove(person.getIdentityKey());
+        if (times == null) {
+            return;
+        }
+
+        for (LocalDateTime time : times) {
+            Map<PersonIdentityKey, Person> persons = personsByTime.get(time);
+            persons.remove(person.getIdentityKey());
+            if (persons.isEmpty()) {
+                personsByTime.remove(time);
+            }
+        }
+    }
+
+    /**
+     * Replaces the checkups of {@code target} with those of {@code editedPerson}.
+     */
+    public void replace(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces all checkups with those of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        requireNonNull(persons);
+        personsByTime.clear();
+        timesByPerson.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces all checkups with the checkup timeline of {@code indexes}, which must have been built from
+     * {@code persons}.
+     */
+    public void restore(List<Person> persons, PrebuiltIndexes indexes) {
+        requireAllNonNull(persons, indexes);
+        assert indexes.getPersonCount() == persons.size();
+        personsByTime.clear();
+        timesByPerson.clear();
+
+        LocalDateTime[] times = indexes.getCheckupTimes();
+        int[][] checkupPersons = indexes.getCheckupPersons();
+        for (int i = 0; i < times.length; i++) {
+            Map<PersonIdentityKey, Person> personsAtTime = new LinkedHashMap<>();
+            for (int position : checkupPersons[i]) {
+                Person person = persons.get(position);
+                personsAtTime.put(person.getIdentityKey(), person);
+                timesByPerson.computeIfAbsent(person.getIdentityKey(), unused -> new HashSet<>()).add(times[i]);
+            }
+            personsByTime.put(times[i], personsAtTime);
+        }
+    }
+
+    /**
+     * Returns the persons with at least one checkup between {@code from} and {@code to}, both inclusive.
+     * Persons are ordered by their earliest checkup in the range.
+     */
+    public List<Person> getPersonsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+
+        Map<PersonIdentityKey, Person> persons = new LinkedHashMap<>();
+        for (Map<PersonIdentityKey, Person> personsAtTime : personsByTime.subMap(from, true, to, true).values()) {
+            personsAtTime.forEach(persons::putIfAbsent);
+        }
+        return new ArrayList<>(persons.values());
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -11,12 +14,6 @@ public class Address {
 
     public static final String MESSAGE_CONSTRAINTS = "Addresses can take any values, and it should not be blank";
 
-    /*
-     * The first character of the address must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
-     */
-    public static final String VALIDATION_REGEX = "\\S.*";
-
     public final String value;
 
     /**
@@ -31,11 +28,25 @@ public class Address {
         value = trimmedAddress;
     }
 
+    private Address(String address, boolean isTrusted) {
+        assert isTrusted;
+        value = address;
+    }
+
+    /**
+     * Returns an {@code Address} with the given {@link #value}, without normalizing or validating it.
+     * Only for addresses read back from data this app saved and found unchanged since.
+     */
+    public static Address ofTrusted(String address) {
+        requireNonNull(address);
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidAddress(test);
     }
 
     /**
@@ -45,7 +56,7 @@ public class Address {
      * @return the trimmed and normalized address string
      */
     private static String trimAndNormalizeWhitespace(String address) {
-        return address.trim().replaceAll("\\s+", " ");
+        return StringUtil.normalizeWhitespace(address);
     }
 
     @Override
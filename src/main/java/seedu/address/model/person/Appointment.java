@@ -3,19 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
- * Represents a Person's name in the address book.
+ * Represents a Person's appointment in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAppointment(String)}
+ * A person is either a nurse or a patient, so {@link #of(String)} hands out {@link #NURSE} or {@link #PATIENT};
+ * prefer it over the constructor when creating appointments for persons.
  */
 public class Appointment {
     public static final String MESSAGE_CONSTRAINTS =
             "Appointment should only be Nurse or Patient";
 
-    /*
-     * The first character of the address must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
-     */
-    public static final String VALIDATION_REGEX = "^(nurse|patient)$";
+    public static final Appointment NURSE = new Appointment("Nurse");
+    public static final Appointment PATIENT = new Appointment("Patient");
 
     public final String appointment;
 
@@ -30,22 +31,36 @@ public class Appointment {
         this.appointment = appointment.substring(0, 1).toUpperCase() + appointment.substring(1).toLowerCase();
     }
 
+    /**
+     * Returns the shared {@code Appointment} for {@code appointment}, ignoring case.
+     *
+     * @param appointment A valid appointment.
+     */
+    public static Appointment of(String appointment) {
+        requireNonNull(appointment);
+        if (appointment.equalsIgnoreCase(NURSE.appointment)) {
+            return NURSE;
+        }
+        checkArgument(appointment.equalsIgnoreCase(PATIENT.appointment), MESSAGE_CONSTRAINTS);
+        return PATIENT;
+    }
+
     public static boolean isValidAppointment(String test) {
-        return test.toLowerCase().matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidAppointment(test);
     }
 
     /**
      * Returns true if the appointment is nurse and false otherwise.
      */
     public boolean isNurse() {
-        return this.toString().equalsIgnoreCase("nurse");
+        return appointment.equals(NURSE.appointment);
     }
 
     /**
      * Returns true if the appointment is patient and false otherwise.
      */
     public boolean isPatient() {
-        return this.toString().equalsIgnoreCase("patient");
+        return appointment.equals(PATIENT.appointment);
     }
 
     @Override
@@ -3,20 +3,36 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's blood type in the address book.
+ * There are only eight blood types, so {@link #of(String)} hands out one shared instance per type; prefer it over
+ * the constructor when creating blood types for persons.
  */
 public class BloodType {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Blood type should only be A+, A-, B+, B-, AB+, AB-, O+ or O-";
 
-    /*
-     * The string must match any of the given types
-     */
-    public static final String VALIDATION_REGEX = "^(A\\+|A\\-|B\\+|B\\-|AB\\+|AB\\-|O\\+|O\\-)$";
+    private static final String[] BLOOD_TYPES = {"A+", "A-", "B+", "B-", "AB+", "AB-", "O+", "O-"};
+    private static final Map<String, BloodType> CANONICAL_BLOOD_TYPES = new LinkedHashMap<>();
+    private static final List<BloodType> VALUES;
+
+    static {
+        for (String bloodType : BLOOD_TYPES) {
+            CANONICAL_BLOOD_TYPES.put(bloodType, new BloodType(bloodType));
+        }
+        VALUES = List.copyOf(CANONICAL_BLOOD_TYPES.values());
+    }
 
     public final String bloodType;
+    private final int ordinal;
 
     /**
      * Constructs a {@code BloodType}.
@@ -27,13 +43,44 @@ public class BloodType {
         requireNonNull(bloodType);
         checkArgument(isValidBloodType(bloodType.toUpperCase()), MESSAGE_CONSTRAINTS);
         this.bloodType = bloodType.toUpperCase();
+        this.ordinal = Arrays.asList(BLOOD_TYPES).indexOf(this.bloodType);
+        assert ordinal >= 0 : "Unknown blood type: " + this.bloodType;
+    }
+
+    /**
+     * Returns the shared {@code BloodType} for {@code bloodType}, ignoring case.
+     *
+     * @param bloodType A valid bloodType.
+     */
+    public static BloodType of(String bloodType) {
+        requireNonNull(bloodType);
+        BloodType canonicalBloodType = CANONICAL_BLOOD_TYPES.get(bloodType);
+        if (canonicalBloodType == null) {
+            canonicalBloodType = CANONICAL_BLOOD_TYPES.get(bloodType.toUpperCase());
+        }
+        checkArgument(canonicalBloodType != null, MESSAGE_CONSTRAINTS);
+        return canonicalBloodType;
+    }
+
+    /**
+     * Returns the shared instances of every blood type, in the order of their {@link #ordinal()}.
+     */
+    public static List<BloodType> values() {
+        return VALUES;
+    }
+
+    /**
+     * Returns the position of this blood type among {@link #values()}.
+     */
+    public int ordinal() {
+        return ordinal;
     }
 
     /**
      * Returns true if a given string is a valid blood type.
      */
     public static boolean isValidBloodType(String test) {
-        return test.toUpperCase().matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidBloodType(test);
     }
 
     @Override
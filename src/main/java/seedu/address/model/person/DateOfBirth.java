@@ -4,10 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateTimeUtil;
 
 /**
  * Represents a person's date of birth.
@@ -16,10 +14,6 @@ public class DateOfBirth {
     public static final String MESSAGE_CONSTRAINTS = "Date Of Birth can only take the format:"
             + "DD/MM/YYYY, and must be an existing date";
     public static final String FUTURE_DOB = "Date Of Birth cannot be in the future!";
-    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-    private static final Logger logger = LogsCenter.getLogger(DateOfBirth.class);
-    private static final String DATE_VALIDATION_REGEX = "^(0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[0-2])/\\d{4}$";
-
 
     public final LocalDate dob;
 
@@ -33,32 +27,42 @@ public class DateOfBirth {
     public DateOfBirth(String dateOfBirth) {
         requireNonNull(dateOfBirth);
         checkArgument(isValidDate(dateOfBirth), MESSAGE_CONSTRAINTS);
-        checkArgument(isNotFutureDate(dateOfBirth), FUTURE_DOB);
-        this.dob = parseDate(dateOfBirth);
+        LocalDate parsedDob = DateTimeUtil.parseDate(dateOfBirth);
+        checkArgument(!parsedDob.isAfter(LocalDate.now()), FUTURE_DOB);
+        this.dob = parsedDob;
     }
 
+    private DateOfBirth(LocalDate dob) {
+        this.dob = dob;
+    }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns a {@code DateOfBirth} of {@code dob}.
+     *
+     * @throws IllegalArgumentException if {@code dob} cannot be written as dd/MM/yyyy, or is in the future.
+     */
+    public static DateOfBirth of(LocalDate dob) {
+        requireNonNull(dob);
+        checkArgument(dob.getYear() >= 1 && dob.getYear() <= 9999, MESSAGE_CONSTRAINTS);
+        checkArgument(!dob.isAfter(LocalDate.now()), FUTURE_DOB);
+        return new DateOfBirth(dob);
+    }
+
+    /**
+     * Returns a {@code DateOfBirth} of {@code dob}, without checking that it is not in the future.
+     * Only for dates of birth read back from data this app saved and found unchanged since.
+     */
+    public static DateOfBirth ofTrusted(LocalDate dob) {
+        requireNonNull(dob);
+        return new DateOfBirth(dob);
+    }
+
+
+    /**
+     * Returns true if a given string is an existing date in the format dd/MM/yyyy.
      */
     public static boolean isValidDate(String dateString) {
-        try {
-            String[] dateParts = dateString.split("/");
-            int day = Integer.parseInt(dateParts[0]);
-            int month = Integer.parseInt(dateParts[1]);
-            int year = Integer.parseInt(dateParts[2]);
-
-            if (day < 1 || day > LocalDate.of(year, month, 1).lengthOfMonth()) {
-                return false;
-            }
-            logger.info("Date of birth string = " + dateString);
-            LocalDate doob = LocalDate.parse(dateString, FORMATTER);
-            logger.info("dob = " + doob.format(FORMATTER));
-            return true;
-        } catch (Exception e) {
-            logger.warning(e.getMessage());
-            return false;
-        }
+        return DateTimeUtil.isValidDate(dateString);
     }
 
     /**
@@ -66,19 +70,15 @@ public class DateOfBirth {
      *
      * @param dateString The date of birth
      * @return True if date is not in the future, False if date is in the future.
+     * @throws IllegalArgumentException if the date of birth is not a valid date.
      */
     public static boolean isNotFutureDate(String dateString) {
-        LocalDate doob = LocalDate.parse(dateString, FORMATTER);
-        return !doob.isAfter(LocalDate.now());
-    }
-
-    private LocalDate parseDate(String dateString) {
-        return LocalDate.parse(dateString, FORMATTER);
+        return !DateTimeUtil.parseDate(dateString).isAfter(LocalDate.now());
     }
 
     @Override
     public String toString() {
-        return this.dob.format(FORMATTER);
+        return DateTimeUtil.formatDate(dob);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -22,17 +24,6 @@ public class Email {
            + "    - have each domain label start and end with alphanumeric characters\n"
            + "    - have each domain label consist of alphanumeric characters, separated only by hyphens, if any.\n"
            + "4. The .com after domain name can be replaced with any other words like .org, .net, etc. (min 2 letters)";
-    // alphanumeric and special characters
-    // the regex format (line 27 to 34) is partly done with the assistance of chatGPT
-    private static final String START = "[A-Za-z0-9]";
-    private static final String LOCAL_ALLOWED = "[A-Za-z0-9_.+-]";
-    private static final String DOMAIN_ALLOWED = "[A-Za-z0-9]";
-    private static final String LOCAL_PART_REGEX = START + LOCAL_ALLOWED + "+(?:[+_.-]*" + LOCAL_ALLOWED + "+)*";
-    private static final String DOMAIN_PART_REGEX = DOMAIN_ALLOWED + "(?:[A-Za-z0-9-]*"
-                                                                   + DOMAIN_ALLOWED + "*" + DOMAIN_ALLOWED + ")?";
-    private static final String TLD_REGEX = DOMAIN_ALLOWED + "{2,}";
-    private static final String DOMAIN_REGEX = DOMAIN_PART_REGEX + "(?:\\." + DOMAIN_PART_REGEX + ")*\\." + TLD_REGEX;
-    public static final String FULL_EMAIL_VALIDATION_REGEX = "^" + LOCAL_PART_REGEX + "@" + DOMAIN_REGEX + "$";
 
     public final String value;
 
@@ -51,11 +42,25 @@ public class Email {
         }
     }
 
+    private Email(String email, boolean isTrusted) {
+        assert isTrusted;
+        value = email;
+    }
+
+    /**
+     * Returns an {@code Email} with the given {@link #value}, without validating it.
+     * Only for emails read back from data this app saved and found unchanged since.
+     */
+    public static Email ofTrusted(String email) {
+        requireNonNull(email);
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(FULL_EMAIL_VALIDATION_REGEX);
+        return ValidationUtil.isValidEmail(test);
     }
 
     @Override
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's medical history in the address book.
  */
@@ -10,7 +12,6 @@ public class MedicalHistory {
     public static final String MESSAGE_CONSTRAINTS =
             "Medical history should only contain alphanumeric characters and spaces, and it should not be blank\n"
             + "It may also contain commas, hyphens, slash, rounded brackets and colon.";
-    public static final String VALIDATION_REGEX = "^[a-zA-Z0-9, /():-]+$";
 
     public final String medicalHistory;
 
@@ -28,8 +29,7 @@ public class MedicalHistory {
      * Returns true if a given string is a valid medical history and false otherwise.
      */
     public static boolean isValidMedicalHistory(String test) {
-        boolean notEmpty = !(test.trim().isEmpty());
-        return notEmpty && test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidMedicalHistory(test);
     }
 
     @Override
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -13,12 +16,6 @@ public class Name {
             "Names should only contain alphabetical characters, spaces, non-consecutive special symbols(hyphens, "
                     + "apostrophes and slash), it should not be blank, must not start or end with a special character.";
 
-    /*
-     * The first character of the name must not be a whitespace or special symbol,
-     * otherwise " " (a blank string) becomes a valid input.
-     */
-    public static final String VALIDATION_REGEX = "^[A-Za-z]+(?:[ '\\-/][A-Za-z]+)*$";
-
     public final String fullName;
 
     /**
@@ -33,18 +30,32 @@ public class Name {
         fullName = trimmedName.toUpperCase();
     }
 
+    private Name(String fullName, boolean isTrusted) {
+        assert isTrusted;
+        this.fullName = fullName;
+    }
+
+    /**
+     * Returns a {@code Name} with the given {@link #fullName}, without normalizing or validating it.
+     * Only for names read back from data this app saved and found unchanged since.
+     */
+    public static Name ofTrusted(String fullName) {
+        requireNonNull(fullName);
+        return new Name(fullName, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidName(test);
     }
 
     /**
      * Trims leading/trailing whitespaces and normalizes multiple consecutive spaces to a single space.
      */
     private static String trimAndNormalizeWhitespace(String name) {
-        return name.trim().replaceAll("\\s+", " ");
+        return StringUtil.normalizeWhitespace(name);
     }
 
     @Override
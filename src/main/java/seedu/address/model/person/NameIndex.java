@@ -0,0 +1,191 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.PrebuiltIndexes;
+
+/**
+ * An inverted index from the tokens of person names to persons, used to answer
+ * {@link NameContainsKeywordsPredicate} queries without scanning every person.
+ *
+ * Names are split into upper-cased tokens the same way {@code NameContainsKeywordsPredicate} splits them.
+ * Persons are posted under each distinct token of their name, and every distinct token is in turn posted under
+ * all of its substrings of up to {@value #GRAM_LENGTH} characters. A keyword of up to {@value #GRAM_LENGTH}
+ * characters is looked up directly; a longer keyword intersects the postings of its trigrams and checks the
+ * remaining candidate tokens.
+ */
+public class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<PersonIdentityKey>> personsByToken = new HashMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Returns the upper-cased tokens of {@code name}.
+     */
+    public static String[] toTokens(Name name) {
+        return name.fullName.toUpperCase().split(" ");
+    }
+
+    /**
+     * Returns the distinct substrings of {@code token} of up to {@value #GRAM_LENGTH} characters, under which the
+     * token is posted.
+     */
+    public static String[] toGrams(String token) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int length = 1; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= token.length(); i++) {
+                grams.add(token.substring(i, i + length));
+            }
+        }
+        return grams.toArray(new String[0]);
+    }
+
+    /**
+     * Adds {@code person} under the tokens of its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : toTokens(person.getName())) {
+            Set<PersonIdentityKey> persons = personsByToken.get(token);
+            if (persons == null) {
+                persons = new HashSet<>();
+                personsByToken.put(token, persons);
+                forEachGram(token, gram -> tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(token));
+            }
+            persons.add(person.getIdentityKey());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the tokens of its name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : toTokens(person.getName())) {
+            Set<PersonIdentityKey> persons = personsByToken.get(token);
+            if (persons == null || !persons.remove(person.getIdentityKey()) || !persons.isEmpty()) {
+                continue;
+            }
+
+            personsByToken.remove(token);
+            forEachGram(token, gram -> {
+                Set<String> tokens = tokensByGram.get(gram);
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    tokensByGram.remove(gram);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void reset(Iterable<Person> persons) {
+        requireNonNull(persons);
+        personsByToken.clear();
+        tokensByGram.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Replaces the contents of the index with the name index of {@code indexes}, which must have been built from
+     * {@code persons}.
+     */
+    public void restore(List<Person> persons, PrebuiltIndexes indexes) {
+        requireAllNonNull(persons, indexes);
+        assert indexes.getPersonCount() == persons.size();
+        personsByToken.clear();
+        tokensByGram.clear();
+
+        String[] tokens = indexes.getTokens();
+        int[][] tokenPersons = indexes.getTokenPersons();
+        for (int i = 0; i < tokens.length; i++) {
+            Set<PersonIdentityKey> tokenKeys = new HashSet<>(capacityFor(tokenPersons[i].length));
+            for (int position : tokenPersons[i]) {
+                tokenKeys.add(persons.get(position).getIdentityKey());
+            }
+            personsByToken.put(tokens[i], tokenKeys);
+        }
+
+        String[] grams = indexes.getGrams();
+        int[][] gramTokens = indexes.getGramTokens();
+        for (int i = 0; i < grams.length; i++) {
+            Set<String> gramTokenSet = new HashSet<>(capacityFor(gramTokens[i].length));
+            for (int position : gramTokens[i]) {
+                gramTokenSet.add(tokens[position]);
+            }
+            tokensByGram.put(grams[i], gramTokenSet);
+        }
+    }
+
+    /**
+     * Returns the initial capacity of a hash set that holds {@code size} elements without resizing.
+     */
+    private static int capacityFor(int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+
+    /**
+     * Returns the persons with a name token containing any of {@code keywords}, ignoring case.
+     */
+    public Set<PersonIdentityKey> find(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonIdentityKey> matches = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            for (String token : findTokens(keyword.toUpperCase())) {
+                matches.addAll(personsByToken.get(token));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indexed tokens containing {@code keyword}.
+     */
+    private Collection<String> findTokens(String keyword) {
+        if (keyword.isEmpty()) {
+            return personsByToken.keySet();
+        }
+        if (keyword.length() <= GRAM_LENGTH) {
+            return tokensByGram.getOrDefault(keyword, Set.of());
+        }
+
+        Set<String> smallestPostings = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<String> postings = tokensByGram.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (postings == null) {
+                return Set.of();
+            }
+            if (smallestPostings == null || postings.size() < smallestPostings.size()) {
+                smallestPostings = postings;
+            }
+        }
+
+        Set<String> tokens = new HashSet<>();
+        for (String candidate : smallestPostings) {
+            if (candidate.contains(keyword)) {
+                tokens.add(candidate);
+            }
+        }
+        return tokens;
+    }
+
+    private static void forEachGram(String token, Consumer<String> action) {
+        for (String gram : toGrams(token)) {
+            action.accept(gram);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's Next of Kin in the address book.
  */
@@ -28,6 +30,20 @@ public class NextOfKin {
         }
     }
 
+    private NextOfKin(String value, boolean isTrusted) {
+        assert isTrusted;
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code NextOfKin} with the given {@link #value}, without normalizing or validating it.
+     * Only for next of kin read back from data this app saved and found unchanged since.
+     */
+    public static NextOfKin ofTrusted(String value) {
+        requireNonNull(value);
+        return new NextOfKin(value, true);
+    }
+
     /**
      * Returns true if the given input is a valid next of kin string.
      * Expected format: "Name Phone"
@@ -77,7 +93,7 @@ public class NextOfKin {
      * Normalizes whitespace in the input by trimming and collapsing multiple spaces into one.
      */
     private String normalize(String input) {
-        return input.trim().replaceAll("\\s+", " ");
+        return StringUtil.normalizeWhitespace(input);
     }
 
 }
@@ -1,12 +1,13 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.ImmutableArraySet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.checkup.Checkup;
 import seedu.address.model.tag.Tag;
@@ -14,9 +15,16 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The tags, medical history and checkups are held in {@link ImmutableArraySet}s, which are shared between copies of
+ * a person and returned as they are by the getters.
+ * The next of kin and medical history, i.e. the {@link PersonDetails}, may be left to be loaded each time they are
+ * asked for (see {@link #withLazyDetails(PersonDetailsLoader)}), as the person list and searches do not need them.
  */
 public class Person {
 
+    /** The ID of a person that has not been added to an address book yet. */
+    public static final long UNASSIGNED_ID = 0;
+
     // Identity fields
     private final Name name;
     private final DateOfBirth dob;
@@ -27,10 +35,18 @@ public class Person {
     // Data fields
     private final Address address;
     private final BloodType bloodType;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Checkup> checkups = new HashSet<>();
-    private final NextOfKin nextOfKin;
-    private final Set<MedicalHistory> medicalHistory = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Checkup> checkups;
+    // exactly one of these is set: the details themselves, or the loader of the details of this person's ID
+    private final PersonDetails details;
+    private final PersonDetailsLoader detailsLoader;
+
+    // Derived fields
+    private final PersonIdentityKey identityKey;
+    private LocalDateTime earliestCheckupDateTime;
+
+    // Bookkeeping fields
+    private final long id;
 
     /**
      * Every field must be present and not null.
@@ -46,10 +62,12 @@ public class Person {
         this.address = address;
         this.bloodType = bloodType;
         this.appointment = appointment;
-        this.tags.addAll(tags);
-        this.nextOfKin = nextOfKin;
-        this.medicalHistory.addAll(medicalHistory);
-        this.checkups.addAll(checkups);
+        this.tags = ImmutableArraySet.copyOf(tags);
+        this.details = new PersonDetails(nextOfKin, medicalHistory);
+        this.detailsLoader = null;
+        this.checkups = ImmutableArraySet.copyOf(checkups);
+        this.identityKey = new PersonIdentityKey(name, phone, dob);
+        this.id = UNASSIGNED_ID;
     }
 
     /**
@@ -65,10 +83,34 @@ public class Person {
         this.address = address;
         this.bloodType = bloodType;
         this.appointment = appointment;
-        this.nextOfKin = nextOfKin;
-        this.tags.addAll(tags);
-        this.medicalHistory.addAll(medicalHistory);
-        this.checkups.addAll(new HashSet<>());
+        this.details = new PersonDetails(nextOfKin, medicalHistory);
+        this.detailsLoader = null;
+        this.tags = ImmutableArraySet.copyOf(tags);
+        this.checkups = ImmutableArraySet.of();
+        this.identityKey = new PersonIdentityKey(name, phone, dob);
+        this.id = UNASSIGNED_ID;
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given {@code id}, and either the given {@code details} or, if they
+     * are null, details loaded by {@code detailsLoader}.
+     */
+    private Person(Person source, long id, PersonDetails details, PersonDetailsLoader detailsLoader) {
+        assert (details == null) != (detailsLoader == null);
+        this.name = source.name;
+        this.dob = source.dob;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.address = source.address;
+        this.bloodType = source.bloodType;
+        this.appointment = source.appointment;
+        this.details = details;
+        this.detailsLoader = detailsLoader;
+        this.tags = source.tags;
+        this.checkups = source.checkups;
+        this.identityKey = source.identityKey;
+        this.earliestCheckupDateTime = source.earliestCheckupDateTime;
+        this.id = id;
     }
 
 
@@ -104,25 +146,106 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        if (tags.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Set<Checkup> getCheckups() {
-        return Collections.unmodifiableSet(checkups);
+        return checkups;
+    }
+
+    /**
+     * Returns the key identifying this person, as compared by {@link #isSamePerson(Person)}.
+     */
+    public PersonIdentityKey getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns the ID assigned to this person by the address book holding it,
+     * or {@link #UNASSIGNED_ID} if the person has not been added to one.
+     * The ID is not part of {@link #equals(Object)}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}.
+     * Details left to be loaded are loaded first, as they are loaded by ID.
+     */
+    public Person withId(long id) {
+        return id == this.id ? this : new Person(this, id, getDetails(), null);
+    }
+
+    /**
+     * Returns the next of kin and medical history of this person, loading them if they are not held by the person.
+     *
+     * @throws IllegalStateException if the details cannot be loaded.
+     */
+    public PersonDetails getDetails() {
+        return details != null ? details : detailsLoader.loadDetails(id);
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code details}.
+     */
+    public Person withDetails(PersonDetails details) {
+        requireNonNull(details);
+        return new Person(this, id, details, null);
+    }
+
+    /**
+     * Returns a copy of this person that does not hold its details, but has {@code detailsLoader} load them by the
+     * person's ID each time they are asked for.
+     * Only for persons whose ID is assigned, and whose details are the ones {@code detailsLoader} has for that ID.
+     */
+    public Person withLazyDetails(PersonDetailsLoader detailsLoader) {
+        requireNonNull(detailsLoader);
+        assert id != UNASSIGNED_ID;
+        return new Person(this, id, null, detailsLoader);
+    }
+
+    /**
+     * Returns true if the details of this person are not held by it, but loaded by {@code detailsLoader}.
+     */
+    public boolean isDetailsLoadedBy(PersonDetailsLoader detailsLoader) {
+        return this.detailsLoader != null && this.detailsLoader == detailsLoader;
+    }
+
+    /**
+     * Returns true if the details of this person are held by it, or are at hand for its loader, so that asking for
+     * them reads nothing.
+     */
+    public boolean isDetailsLoaded() {
+        return details != null || detailsLoader.isLoaded(id);
     }
 
     public boolean hasCheckup() {
         return !checkups.isEmpty();
     }
+
+    /**
+     * Returns the date and time of the earliest checkup, or {@code LocalDateTime.MAX} if there is none.
+     * The value is computed on first use and cached, since the checkups of a person never change.
+     */
+    public LocalDateTime getEarliestCheckupDateTime() {
+        if (earliestCheckupDateTime == null) {
+            LocalDateTime earliest = LocalDateTime.MAX;
+            for (Checkup checkup : checkups) {
+                if (checkup.getDateTime().isBefore(earliest)) {
+                    earliest = checkup.getDateTime();
+                }
+            }
+            earliestCheckupDateTime = earliest;
+        }
+        return earliestCheckupDateTime;
+    }
     /**
      * Returns the next of kin of the person, if available.
      * May be {@code null} if not specified.
      */
     public NextOfKin getNextOfKin() {
-        return nextOfKin;
+        return getDetails().getNextOfKin();
     }
 
     /**
@@ -137,10 +260,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<MedicalHistory> getMedicalHistory() {
-        if (medicalHistory.isEmpty()) {
-            return Collections.emptySet();
-        }
-        return Collections.unmodifiableSet(medicalHistory);
+        return getDetails().getMedicalHistory();
     }
 
     /**
@@ -151,27 +271,18 @@ public class Person {
     }
 
     /**
-     * Returns true if both persons have the same name.
+     * Returns true if both persons have the same name, phone number (ignoring spaces) and date of birth.
      * This defines a weaker notion of equality between two persons.
      */
     public boolean isSamePerson(Person otherPerson) {
         if (otherPerson == this) {
             return true;
         }
-        if (otherPerson == null) {
-            return false;
-        }
-
-        String otherPersonPhone = otherPerson.getPhone().toString().replaceAll(" ", "");
-        String thisPersonPhone = getPhone().toString().replaceAll(" ", "");
 
         return otherPerson != null
-                && otherPerson.getName().equals(getName())
-                && otherPersonPhone.equals(thisPersonPhone)
-                && otherPerson.getDateOfBirth().equals(getDateOfBirth());
+                && otherPerson.getIdentityKey().equals(getIdentityKey());
     }
 
-
     /**
      * Returns true if the appointment is nurse and false otherwise.
      */
@@ -220,23 +331,28 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, bloodType, appointment, tags, nextOfKin, medicalHistory,
-                checkups);
+        // the details are left out, so that hashing a person does not load them
+        return Objects.hash(name, phone, email, address, bloodType, appointment, tags, checkups);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this)
+        // the details are left out unless they are at hand, so that printing a person (e.g. to a log) loads nothing
+        PersonDetails loadedDetails = isDetailsLoaded() ? getDetails() : null;
+        ToStringBuilder builder = new ToStringBuilder(this)
                 .add("name", name)
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
                 .add("bloodType", bloodType)
-                .add("appointment", appointment)
-                .add("nextOfKin", nextOfKin)
-                .add("tags", tags)
-                .add("medicalHistory", medicalHistory)
-                .add("checkups", checkups)
-                .toString();
+                .add("appointment", appointment);
+        if (loadedDetails != null) {
+            builder.add("nextOfKin", loadedDetails.getNextOfKin());
+        }
+        builder.add("tags", tags);
+        if (loadedDetails != null) {
+            builder.add("medicalHistory", loadedDetails.getMedicalHistory());
+        }
+        return builder.add("checkups", checkups).toString();
     }
 }
@@ -0,0 +1,222 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A columnar mirror of the persons in a {@link UniquePersonList}, for bulk filters and aggregates.
+ * Row {@code i} of every column describes the person at position {@code i} of the list:
+ * <ul>
+ *     <li>date of birth, as an epoch day;</li>
+ *     <li>blood type, as its {@link BloodType#ordinal()};</li>
+ *     <li>role, as a bit that is set for nurses;</li>
+ *     <li>earliest checkup, as an epoch minute in UTC, or {@link #NO_CHECKUP}.</li>
+ * </ul>
+ * A {@link Query} is answered by a single loop over the primitive columns, touching a person only once it matches.
+ * The list keeps the columns in sync with its own changes.
+ */
+public class PersonColumns {
+
+    /** The earliest checkup column value of a person with no checkups. */
+    public static final long NO_CHECKUP = Long.MAX_VALUE;
+
+    private static final byte NURSE_BIT = 1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Person> rows;
+    private int size;
+    private int[] dobEpochDays = new int[INITIAL_CAPACITY];
+    private byte[] bloodTypes = new byte[INITIAL_CAPACITY];
+    private byte[] roles = new byte[INITIAL_CAPACITY];
+    private long[] earliestCheckupEpochMinutes = new long[INITIAL_CAPACITY];
+
+    /**
+     * Creates columns mirroring {@code rows}, which the owner of the columns must keep in sync through
+     * {@link #add(Person)}, {@link #set(int, Person)}, {@link #remove(int)} and {@link #reset()}.
+     */
+    PersonColumns(List<Person> rows) {
+        this.rows = requireNonNull(rows);
+        reset();
+    }
+
+    /**
+     * Returns the epoch minute in UTC of {@code dateTime}, or {@link #NO_CHECKUP} for {@code LocalDateTime.MAX}.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return dateTime.equals(LocalDateTime.MAX) ? NO_CHECKUP : dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    /**
+     * Appends a row for {@code person}.
+     */
+    void add(Person person) {
+        ensureCapacity(size + 1);
+        write(size++, person);
+    }
+
+    /**
+     * Overwrites row {@code index} with {@code person}.
+     */
+    void set(int index, Person person) {
+        write(index, person);
+    }
+
+    /**
+     * Removes row {@code index}, shifting later rows down.
+     */
+    void remove(int index) {
+        int moved = size - index - 1;
+        System.arraycopy(dobEpochDays, index + 1, dobEpochDays, index, moved);
+        System.arraycopy(bloodTypes, index + 1, bloodTypes, index, moved);
+        System.arraycopy(roles, index + 1, roles, index, moved);
+        System.arraycopy(earliestCheckupEpochMinutes, index + 1, earliestCheckupEpochMinutes, index, moved);
+        size--;
+    }
+
+    /**
+     * Rebuilds every row from the mirrored list.
+     */
+    void reset() {
+        size = 0;
+        ensureCapacity(rows.size());
+        for (Person person : rows) {
+            write(size++, person);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the persons matching {@code query}, in list order.
+     */
+    public List<Person> select(Query query) {
+        requireNonNull(query);
+        List<Person> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (query.matches(this, i)) {
+                matches.add(rows.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons matching {@code query}.
+     */
+    public int count(Query query) {
+        requireNonNull(query);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (query.matches(this, i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of persons matching {@code query} of each blood type, indexed by {@link BloodType#ordinal()}.
+     */
+    public int[] countByBloodType(Query query) {
+        requireNonNull(query);
+        int[] counts = new int[BloodType.values().size()];
+        for (int i = 0; i < size; i++) {
+            if (query.matches(this, i)) {
+                counts[bloodTypes[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    private void write(int index, Person person) {
+        dobEpochDays[index] = (int) person.getDateOfBirth().dob.toEpochDay();
+        bloodTypes[index] = (byte) person.getBloodType().ordinal();
+        roles[index] = person.isNurse() ? NURSE_BIT : 0;
+        earliestCheckupEpochMinutes[index] = toEpochMinute(person.getEarliestCheckupDateTime());
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= dobEpochDays.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, dobEpochDays.length * 2);
+        dobEpochDays = Arrays.copyOf(dobEpochDays, newCapacity);
+        bloodTypes = Arrays.copyOf(bloodTypes, newCapacity);
+        roles = Arrays.copyOf(roles, newCapacity);
+        earliestCheckupEpochMinutes = Arrays.copyOf(earliestCheckupEpochMinutes, newCapacity);
+    }
+
+    /**
+     * A conjunction of conditions on the columns. A new query matches every person; each condition narrows it.
+     * Conditions are kept as bounds and bit masks so that matching a row never branches on which are set.
+     */
+    public static class Query {
+        private int bloodTypeMask = -1;
+        private int roleMask = -1;
+        private int minDobEpochDay = Integer.MIN_VALUE;
+        private int maxDobEpochDay = Integer.MAX_VALUE;
+        private long minEarliestCheckup = Long.MIN_VALUE;
+        private long maxEarliestCheckup = Long.MAX_VALUE;
+
+        /**
+         * Keeps only persons with one of {@code bloodTypes}.
+         */
+        public Query bloodType(BloodType... bloodTypes) {
+            requireAllNonNull((Object[]) bloodTypes);
+            int mask = 0;
+            for (BloodType bloodType : bloodTypes) {
+                mask |= 1 << bloodType.ordinal();
+            }
+            bloodTypeMask &= mask;
+            return this;
+        }
+
+        /**
+         * Keeps only persons with {@code appointment}.
+         */
+        public Query appointment(Appointment appointment) {
+            requireNonNull(appointment);
+            roleMask &= 1 << (appointment.isNurse() ? NURSE_BIT : 0);
+            return this;
+        }
+
+        /**
+         * Keeps only persons born on or after {@code from} and on or before {@code to}.
+         */
+        public Query bornBetween(LocalDate from, LocalDate to) {
+            requireAllNonNull(from, to);
+            minDobEpochDay = (int) Math.max(minDobEpochDay, from.toEpochDay());
+            maxDobEpochDay = (int) Math.min(maxDobEpochDay, to.toEpochDay());
+            return this;
+        }
+
+        /**
+         * Keeps only persons whose earliest checkup is at or after {@code from} and at or before {@code to}.
+         */
+        public Query earliestCheckupBetween(LocalDateTime from, LocalDateTime to) {
+            requireAllNonNull(from, to);
+            minEarliestCheckup = Math.max(minEarliestCheckup, toEpochMinute(from));
+            maxEarliestCheckup = Math.min(maxEarliestCheckup, Math.min(toEpochMinute(to), NO_CHECKUP - 1));
+            return this;
+        }
+
+        private boolean matches(PersonColumns columns, int row) {
+            int dob = columns.dobEpochDays[row];
+            long earliestCheckup = columns.earliestCheckupEpochMinutes[row];
+            return (bloodTypeMask >>> columns.bloodTypes[row] & 1) != 0
+                    & (roleMask >>> columns.roles[row] & 1) != 0
+                    & dob >= minDobEpochDay & dob <= maxDobEpochDay
+                    & earliestCheckup >= minEarliestCheckup & earliestCheckup <= maxEarliestCheckup;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ImmutableArraySet;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the details of a {@code Person} that are only needed when the person is viewed or edited, i.e. the
+ * next of kin and medical history, as opposed to the fields that the person list and searches go through.
+ * Guarantees: immutable; the medical history is held in an {@link ImmutableArraySet}.
+ */
+public final class PersonDetails {
+
+    /** The details of a person with no next of kin given and no medical history. */
+    public static final PersonDetails EMPTY = new PersonDetails(new NextOfKin(null), ImmutableArraySet.of());
+
+    private final NextOfKin nextOfKin;
+    private final Set<MedicalHistory> medicalHistory;
+
+    /**
+     * Constructs a {@code PersonDetails}. The next of kin may be null, as for a {@code Person}.
+     */
+    public PersonDetails(NextOfKin nextOfKin, Set<MedicalHistory> medicalHistory) {
+        requireNonNull(medicalHistory);
+        this.nextOfKin = nextOfKin;
+        this.medicalHistory = ImmutableArraySet.copyOf(medicalHistory);
+    }
+
+    public NextOfKin getNextOfKin() {
+        return nextOfKin;
+    }
+
+    public Set<MedicalHistory> getMedicalHistory() {
+        return medicalHistory;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonDetails)) {
+            return false;
+        }
+
+        PersonDetails otherDetails = (PersonDetails) other;
+        return Objects.equals(nextOfKin, otherDetails.nextOfKin)
+                && medicalHistory.equals(otherDetails.medicalHistory);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nextOfKin, medicalHistory);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nextOfKin", nextOfKin)
+                .add("medicalHistory", medicalHistory)
+                .toString();
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+/**
+ * Loads the {@link PersonDetails} of persons whose details are kept out of memory until they are needed.
+ *
+ * @see Person#withLazyDetails(PersonDetailsLoader)
+ */
+@FunctionalInterface
+public interface PersonDetailsLoader {
+
+    /**
+     * Returns the details of the person with ID {@code id}.
+     *
+     * @throws IllegalStateException if the details cannot be loaded.
+     */
+    PersonDetails loadDetails(long id);
+
+    /**
+     * Returns true if the details of the person with ID {@code id} are at hand, e.g. cached, so that loading them
+     * reads nothing. Loaders that keep nothing at hand need not override this.
+     */
+    default boolean isLoaded(long id) {
+        return false;
+    }
+}
@@ -12,6 +12,10 @@ public class PersonHasAppointmentPredicate implements Predicate<Person> {
         this.appointment = appointment;
     }
 
+    public Appointment getAppointment() {
+        return appointment;
+    }
+
     @Override
     public boolean test(Person person) {
         return person.getAppointment().equals(appointment);
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the identity of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Two persons with equal keys are considered the same person.
+ * Guarantees: immutable; phone is normalized by removing its spaces, as {@code isSamePerson} always has.
+ */
+public final class PersonIdentityKey {
+
+    private final String name;
+    private final String phoneWithoutSpaces;
+    private final LocalDate dob;
+    private final int hash;
+
+    /**
+     * Constructs a {@code PersonIdentityKey} from the identity fields of a person.
+     */
+    public PersonIdentityKey(Name name, Phone phone, DateOfBirth dob) {
+        requireAllNonNull(name, phone, dob);
+        this.name = name.fullName;
+        this.phoneWithoutSpaces = withoutSpaces(phone.value);
+        this.dob = dob.dob;
+        this.hash = computeHash();
+    }
+
+    /**
+     * Returns {@code phone} with every space removed. Other whitespace is kept.
+     */
+    static String withoutSpaces(String phone) {
+        return phone.indexOf(' ') < 0 ? phone : phone.replace(" ", "");
+    }
+
+    private int computeHash() {
+        int result = name.hashCode();
+        result = 31 * result + phoneWithoutSpaces.hashCode();
+        result = 31 * result + dob.hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentityKey)) {
+            return false;
+        }
+
+        PersonIdentityKey otherKey = (PersonIdentityKey) other;
+        return hash == otherKey.hash
+                && name.equals(otherKey.name)
+                && phoneWithoutSpaces.equals(otherKey.phoneWithoutSpaces)
+                && dob.equals(otherKey.dob);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phoneWithoutSpaces)
+                .add("dob", dob)
+                .toString();
+    }
+}
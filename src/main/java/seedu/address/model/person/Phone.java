@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -16,8 +18,6 @@ public class Phone {
             - Phone numbers can be separated by a space with at least 3 digits in each group
             - Phone numbers should not contain any other characters or symbols
             - Total number of digits cannot exceed 17""";
-    // the regex format (line 18) is partly done with the assistance of chatGPT
-    public static final String VALIDATION_REGEX = "^(?!0+(?:\\s+0+)*$)(?:\\d{3,}(?:\\s+\\d{3,})*)$";
     public final String value;
 
     /**
@@ -31,11 +31,25 @@ public class Phone {
         value = phone;
     }
 
+    private Phone(String phone, boolean isTrusted) {
+        assert isTrusted;
+        value = phone;
+    }
+
+    /**
+     * Returns a {@code Phone} with the given {@link #value}, without validating it.
+     * Only for phone numbers read back from data this app saved and found unchanged since.
+     */
+    public static Phone ofTrusted(String phone) {
+        requireNonNull(phone);
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidPhone(test);
     }
 
     @Override
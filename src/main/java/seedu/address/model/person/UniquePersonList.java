@@ -3,11 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.PrebuiltIndexes;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +26,21 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * An index of {@code PersonIdentityKey} to person is kept in sync with the list so that identity checks do not
+ * need to scan the list.
+ *
+ * Every person in the list carries a unique, stable ID (see {@link Person#getId()}), assigned when the person is
+ * added and carried over when the person is replaced. A map from ID to position in the list lets persons taken
+ * from the list be located without scanning it. Removing a person shifts the persons after it, so their positions
+ * in the map are only marked stale, and brought up to date once one of them is looked up; a run of removals, e.g.
+ * from the end of the list, then does not rewrite the later positions after each removal.
+ *
+ * A {@link NameIndex} over the names of the persons in the list answers name keyword searches.
+ * The list counts its modifications in a version (see {@link #getVersion()}), so that callers can tell whether it
+ * changed without comparing its contents.
+ *
+ * A {@link PersonColumns} mirror for bulk scans is created on first request and kept in sync from then on.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,36 +50,85 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonIdentityKey, Person> identityIndex = new HashMap<>();
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    // positions in positionsById from this one on may be stale, as persons before them were removed
+    private int firstStalePosition = Integer.MAX_VALUE;
+    private final NameIndex nameIndex = new NameIndex();
+    private PersonColumns columns;
+    private long version;
+    private long nextId = Person.UNASSIGNED_ID + 1;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getIdentityKey());
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it is in the list.
+     */
+    public Optional<Person> getById(long id) {
+        int position = positionOf(id);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
-     * Adds a person to the list.
+     * Returns the position of {@code target} in the list, or -1 if it is not in the list.
+     * {@code target} is located through its ID when it was taken from this list, and otherwise through its identity.
+     * Either way, it must also be equal to the person found, as when the list was searched for it.
+     */
+    public int indexOf(Person target) {
+        int position = positionOf(target.getId());
+        if (position != -1 && internalList.get(position).equals(target)) {
+            return position;
+        }
+
+        Person storedPerson = identityIndex.get(target.getIdentityKey());
+        if (storedPerson == null || !storedPerson.equals(target)) {
+            return -1;
+        }
+        return positionOf(storedPerson.getId());
+    }
+
+    /**
+     * Adds a person to the list, keeping its ID if it has one that is not in use and assigning a new one otherwise.
      * The person must not already exist in the list.
+     *
+     * @return the person as stored in the list.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+
+        Person storedPerson = isAvailableId(toAdd.getId()) ? toAdd : toAdd.withId(nextId);
+        nextId = Math.max(nextId, storedPerson.getId() + 1);
+        identityIndex.put(storedPerson.getIdentityKey(), storedPerson);
+        positionsById.put(storedPerson.getId(), internalList.size());
+        nameIndex.add(storedPerson);
+        internalList.add(storedPerson);
+        version++;
+        if (columns != null) {
+            columns.add(storedPerson);
+        }
+        return storedPerson;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     *
+     * @return {@code editedPerson} as stored in the list, i.e. with the ID of {@code target}.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,36 +137,148 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replacedPerson = internalList.get(index);
+        Person storedPerson = editedPerson.withId(replacedPerson.getId());
+        identityIndex.remove(replacedPerson.getIdentityKey());
+        identityIndex.put(storedPerson.getIdentityKey(), storedPerson);
+        nameIndex.remove(replacedPerson);
+        nameIndex.add(storedPerson);
+        internalList.set(index, storedPerson);
+        version++;
+        if (columns != null) {
+            columns.set(index, storedPerson);
+        }
+        return storedPerson;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the person that was removed.
      */
-    public void remove(Person toRemove) {
+    public Person remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removedPerson = internalList.remove(index);
+        version++;
+        if (columns != null) {
+            columns.remove(index);
+        }
+        identityIndex.remove(removedPerson.getIdentityKey());
+        positionsById.remove(removedPerson.getId());
+        firstStalePosition = Math.min(firstStalePosition, index);
+        nameIndex.remove(removedPerson);
+        return removedPerson;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        positionsById.clear();
+        positionsById.putAll(replacement.positionsById);
+        firstStalePosition = replacement.firstStalePosition;
+        nextId = replacement.nextId;
+        nameIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        version++;
+        resetColumns();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
+     * IDs of {@code persons} are kept where they are unique; the other persons are assigned new IDs.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        replacePersons(persons, null);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, restoring the name index from {@code indexes}
+     * rather than building it. {@code indexes} must have been built from {@code persons}.
+     *
+     * @see #setPersons(List)
+     */
+    public void setPersons(List<Person> persons, PrebuiltIndexes indexes) {
+        requireAllNonNull(persons, indexes);
+        assert indexes.getPersonCount() == persons.size();
+        replacePersons(persons, indexes);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, restoring the name index from {@code indexes} if it
+     * is not null, and building it otherwise.
+     */
+    private void replacePersons(List<Person> persons, PrebuiltIndexes indexes) {
+        Map<PersonIdentityKey, Person> replacementIndex = buildIdentityIndex(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        long replacementNextId = nextIdAfter(persons);
+        List<Person> storedPersons = new ArrayList<>(persons.size());
+        Set<Long> usedIds = new HashSet<>();
+        for (Person person : persons) {
+            boolean canKeepId = person.getId() > Person.UNASSIGNED_ID && usedIds.add(person.getId());
+            storedPersons.add(canKeepId ? person : person.withId(replacementNextId++));
+        }
+
+        identityIndex.clear();
+        positionsById.clear();
+        for (int i = 0; i < storedPersons.size(); i++) {
+            Person storedPerson = storedPersons.get(i);
+            identityIndex.put(storedPerson.getIdentityKey(), storedPerson);
+            positionsById.put(storedPerson.getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+        nextId = replacementNextId;
+        if (indexes == null) {
+            nameIndex.reset(storedPersons);
+        } else {
+            nameIndex.restore(storedPersons, indexes);
+        }
+        internalList.setAll(storedPersons);
+        version++;
+        resetColumns();
+    }
+
+    /**
+     * Returns the number of modifications made to the list so far.
+     * The version changes whenever the contents of the list may have changed.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a columnar mirror of the list, creating it on first use.
+     */
+    public PersonColumns getColumns() {
+        if (columns == null) {
+            columns = new PersonColumns(internalList);
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the persons with a name containing any of {@code keywords}, ignoring case,
+     * as matched by {@link NameContainsKeywordsPredicate}.
+     */
+    public List<Person> findByName(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<PersonIdentityKey> keys = nameIndex.find(keywords);
+        List<Person> matches = new ArrayList<>(keys.size());
+        for (PersonIdentityKey key : keys) {
+            matches.add(identityIndex.get(key));
+        }
+        return matches;
     }
 
     /**
@@ -135,16 +319,55 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person with the given {@code id}, or -1 if it is not in the list.
+     */
+    private int positionOf(long id) {
+        Integer position = positionsById.get(id);
+        if (position == null) {
+            return -1;
+        }
+        if (position >= firstStalePosition) {
+            refreshStalePositions();
+            position = positionsById.get(id);
+        }
+        return position;
+    }
+
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    private void resetColumns() {
+        if (columns != null) {
+            columns.reset();
+        }
+    }
+
+    private static long nextIdAfter(List<Person> persons) {
+        long maxId = Person.UNASSIGNED_ID;
+        for (Person person : persons) {
+            maxId = Math.max(maxId, person.getId());
+        }
+        return maxId + 1;
+    }
+
+    private boolean isAvailableId(long id) {
+        return id > Person.UNASSIGNED_ID && !positionsById.containsKey(id);
+    }
+
+    /**
+     * Returns the identity index of {@code persons}, or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private Map<PersonIdentityKey, Person> buildIdentityIndex(List<Person> persons) {
+        Map<PersonIdentityKey, Person> index = new HashMap<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getIdentityKey(), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -3,15 +3,28 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * The same tags (e.g. the tag of a nurse) are carried by many persons, so {@link #of(String)} interns tags by name;
+ * prefer it over the constructor when creating tags for persons. Interned tags no longer in use are dropped.
+ * {@link #of(String)} may be called from several threads at once, as when persons are read in parallel; looking up
+ * a tag already interned takes no lock.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
 
-    public static final String VALIDATION_REGEX = "^[a-zA-Z0-9 ]+$"; // Allows for spaces in tag names
+    private static final ConcurrentMap<String, InternedTag> INTERNED_TAGS = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Tag> DROPPED_TAGS = new ReferenceQueue<>();
 
     public final String tagName;
 
@@ -26,11 +39,49 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the interned {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        InternedTag reference = INTERNED_TAGS.get(tagName);
+        Tag tag = reference == null ? null : reference.get();
+        if (tag != null) {
+            return tag;
+        }
+
+        removeDroppedTags();
+        Tag[] internedTag = new Tag[1];
+        INTERNED_TAGS.compute(tagName, (name, currentReference) -> {
+            Tag currentTag = currentReference == null ? null : currentReference.get();
+            if (currentTag != null) {
+                internedTag[0] = currentTag;
+                return currentReference;
+            }
+            internedTag[0] = new Tag(name);
+            return new InternedTag(internedTag[0]);
+        });
+        return internedTag[0];
+    }
+
+    /**
+     * Removes the entries of the interned tags that are no longer in use and have been garbage collected.
+     */
+    private static void removeDroppedTags() {
+        Reference<? extends Tag> reference;
+        while ((reference = DROPPED_TAGS.poll()) != null) {
+            InternedTag droppedTag = (InternedTag) reference;
+            INTERNED_TAGS.remove(droppedTag.tagName, droppedTag);
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidTagName(test);
     }
 
     @Override
@@ -60,4 +111,17 @@ public class Tag {
         return '[' + tagName + ']';
     }
 
+    /**
+     * A weak reference to an interned tag, remembering the name it is interned under so that its entry can be
+     * removed once the tag is dropped.
+     */
+    private static class InternedTag extends WeakReference<Tag> {
+        private final String tagName;
+
+        InternedTag(Tag tag) {
+            super(tag, DROPPED_TAGS);
+            this.tagName = tag.tagName;
+        }
+    }
+
 }
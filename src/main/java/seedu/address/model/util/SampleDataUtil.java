@@ -1,13 +1,12 @@
 package seedu.address.model.util;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -32,27 +31,27 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new DateOfBirth("01/01/2001"), new Phone("87438807"),
                     new Email("alexyeoh@example.com"), new Address("Blk 30 Geylang Street 29, #06-40"),
-                    new BloodType("AB+"), new Appointment("Nurse"), getTagSet("Manager"),
+                    BloodType.of("AB+"), Appointment.of("Nurse"), getTagSet("Manager"),
                     new NextOfKin("Alexis 91023434"), new HashSet<>(), new HashSet<>()),
             new Person(new Name("Bernice Yu"), new DateOfBirth("01/01/1900"), new Phone("99272758"),
                     new Email("berniceyu@example.com"), new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
-                    new BloodType("AB+"), new Appointment("Nurse"), getTagSet("Newcomer"),
+                    BloodType.of("AB+"), Appointment.of("Nurse"), getTagSet("Newcomer"),
                     new NextOfKin("Alexis 91023434"), new HashSet<>(), new HashSet<>()),
             new Person(new Name("Charlotte Oliveiro"), new DateOfBirth("12/05/1989"), new Phone("93210283"),
                     new Email("charlotte@example.com"), new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                    new BloodType("AB+"), new Appointment("Nurse"), getTagSet("Newcomer"),
+                    BloodType.of("AB+"), Appointment.of("Nurse"), getTagSet("Newcomer"),
                     new NextOfKin("Alexis 91023434"), new HashSet<>(), new HashSet<>()),
             new Person(new Name("David Li"), new DateOfBirth("14/07/1989"), new Phone("91031282"),
                     new Email("lidavid@example.com"), new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                    new BloodType("AB+"), new Appointment("Nurse"), getTagSet("Manager"),
+                    BloodType.of("AB+"), Appointment.of("Nurse"), getTagSet("Manager"),
                     new NextOfKin("Alexis 91023434"), new HashSet<>(), new HashSet<>()),
             new Person(new Name("Irfan Ibrahim"), new DateOfBirth("04/04/2004"), new Phone("92492021"),
                     new Email("irfan@example.com"), new Address("Blk 47 Tampines Street 20, #17-35"),
-                    new BloodType("AB+"), new Appointment("Nurse"), getTagSet("Expert in drawing blood"),
+                    BloodType.of("AB+"), Appointment.of("Nurse"), getTagSet("Expert in drawing blood"),
                     new NextOfKin("Alexis 91023434"), new HashSet<>(), new HashSet<>()),
             new Person(new Name("Roy Balakrishnan"), new DateOfBirth("11/09/2001"), new Phone("92624417"),
                     new Email("royb@example.com"), new Address("Blk 45 Aljunied Street 85, #11-31"),
-                    new BloodType("AB+"), new Appointment("Patient"), getTagSet("Throws tantrum"),
+                    BloodType.of("AB+"), Appointment.of("Patient"), getTagSet("Throws tantrum"),
                     new NextOfKin("Alexis 91023434"), getMedicalHistorySet("Diabetes"),
                     new HashSet<>())
         };
@@ -71,20 +70,16 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
     public static Set<Checkup> getCheckupSet(String ... dateTimeStrings) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
         return Arrays.stream(dateTimeStrings)
                 .map(dateTimeString -> {
-                    String[] parts = dateTimeString.split(" ");
-                    LocalDate date = LocalDate.parse(parts[0], dateFormatter);
-                    LocalTime time = LocalTime.parse(parts[1], timeFormatter);
+                    LocalDateTime dateTime = DateTimeUtil.parseDateTime(dateTimeString);
                     try {
-                        Checkup checkup = new Checkup(date, time, true);
+                        Checkup checkup = new Checkup(dateTime.toLocalDate(), dateTime.toLocalTime(), true);
                         return checkup;
                     } catch (ParseException e) {
                         throw new RuntimeException(e);
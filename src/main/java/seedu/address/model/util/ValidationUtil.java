@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validates the text of the fields of a person, for the value classes that hold them and so for both the command
+ * parsers and the storage that build those.
+ *
+ * Fields with a grammar worth a regular expression are matched against a {@link Pattern} compiled once, rather than
+ * through {@link String#matches(String)}, which compiles the expression again on every call. The patterns avoid
+ * nested quantifiers over the same characters, so that they match in time linear in the length of the text. Phone
+ * numbers, blood types and appointments are simple enough to be scanned by hand, without a pattern at all.
+ */
+public class ValidationUtil {
+
+    public static final String NAME_REGEX = "[A-Za-z]++(?:[ '\\-/][A-Za-z]++)*+";
+    public static final String TAG_NAME_REGEX = "[a-zA-Z0-9 ]+";
+    public static final String MEDICAL_HISTORY_REGEX = "[a-zA-Z0-9, /():-]+";
+    public static final String ADDRESS_REGEX = "\\S.*";
+
+    /*
+     * A name is matched possessively, as letters and the symbols between words are distinct.
+     *
+     * An email is a local part of an alphanumeric character followed by at least one alphanumeric character or
+     * special character, then '@', then domain labels each followed by a period, then a top level domain of at least
+     * two alphanumeric characters. A domain label is runs of alphanumeric characters separated by hyphens. Each run
+     * of characters is matched possessively, as the characters that may end it cannot also start what follows.
+     */
+    private static final String LOCAL_PART_REGEX = "[A-Za-z0-9][A-Za-z0-9_.+-]++";
+    private static final String DOMAIN_LABEL_REGEX = "[A-Za-z0-9]++(?:-++[A-Za-z0-9]++)*+";
+    public static final String EMAIL_REGEX =
+            LOCAL_PART_REGEX + "@(?:" + DOMAIN_LABEL_REGEX + "\\.)++[A-Za-z0-9]{2,}+";
+
+    public static final int MIN_PHONE_GROUP_LENGTH = 3;
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(NAME_REGEX);
+    private static final Pattern TAG_NAME_PATTERN = Pattern.compile(TAG_NAME_REGEX);
+    private static final Pattern MEDICAL_HISTORY_PATTERN = Pattern.compile(MEDICAL_HISTORY_REGEX);
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile(ADDRESS_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+
+    /**
+     * Returns true if {@code test} is words of letters separated by single spaces, apostrophes, hyphens or slashes.
+     */
+    public static boolean isValidName(String test) {
+        return NAME_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is groups of at least {@value #MIN_PHONE_GROUP_LENGTH} digits separated by
+     * whitespace, with at least one digit that is not zero.
+     */
+    public static boolean isValidPhone(String test) {
+        requireNonNull(test);
+        boolean hasNonZeroDigit = false;
+        int i = 0;
+        while (true) {
+            int groupStart = i;
+            while (i < test.length() && test.charAt(i) >= '0' && test.charAt(i) <= '9') {
+                hasNonZeroDigit |= test.charAt(i) != '0';
+                i++;
+            }
+            if (i - groupStart < MIN_PHONE_GROUP_LENGTH) {
+                return false;
+            }
+            if (i == test.length()) {
+                return hasNonZeroDigit;
+            }
+            if (!isRegexWhitespace(test.charAt(i))) {
+                return false;
+            }
+            while (i < test.length() && isRegexWhitespace(test.charAt(i))) {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is an email address, as described by {@link #EMAIL_REGEX}.
+     */
+    public static boolean isValidEmail(String test) {
+        return EMAIL_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is letters, digits and spaces only.
+     */
+    public static boolean isValidTagName(String test) {
+        return TAG_NAME_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is one of A+, A-, B+, B-, AB+, AB-, O+ and O-, ignoring case.
+     */
+    public static boolean isValidBloodType(String test) {
+        requireNonNull(test);
+        int length = test.length();
+        if (length < 2 || length > 3) {
+            return false;
+        }
+        char rhesus = test.charAt(length - 1);
+        if (rhesus != '+' && rhesus != '-') {
+            return false;
+        }
+        char group = toAsciiUpperCase(test.charAt(0));
+        if (length == 3) {
+            return group == 'A' && toAsciiUpperCase(test.charAt(1)) == 'B';
+        }
+        return group == 'A' || group == 'B' || group == 'O';
+    }
+
+    /**
+     * Returns true if {@code test} is "nurse" or "patient", ignoring case.
+     */
+    public static boolean isValidAppointment(String test) {
+        requireNonNull(test);
+        return equalsIgnoreAsciiCase(test, "nurse") || equalsIgnoreAsciiCase(test, "patient");
+    }
+
+    /**
+     * Returns true if {@code test} is letters, digits, spaces, commas, slashes, round brackets, colons and hyphens,
+     * and is not blank.
+     */
+    public static boolean isValidMedicalHistory(String test) {
+        return !test.isBlank() && MEDICAL_HISTORY_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} does not start with whitespace and has no line breaks.
+     */
+    public static boolean isValidAddress(String test) {
+        return ADDRESS_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a {@link Pattern}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char toAsciiUpperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+    }
+
+    /**
+     * Returns true if {@code test} is {@code lowerCaseWord} with any of its letters in upper case.
+     */
+    private static boolean equalsIgnoreAsciiCase(String test, String lowerCaseWord) {
+        if (test.length() != lowerCaseWord.length()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != lowerCaseWord.charAt(i) && c != toAsciiUpperCase(lowerCaseWord.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the indexes of {@code addressBook}, so that reading the data back restores them rather than building
+     * them again. The indexes are saved only if {@code addressBook} holds exactly the persons last saved by this
+     * storage. Meant to be called when the application stops, as building the indexes goes through every person.
+     * Does nothing for storages that do not keep indexes.
+     */
+    default void saveAddressBookIndexes(ReadOnlyAddressBook addressBook) {}
+
 }
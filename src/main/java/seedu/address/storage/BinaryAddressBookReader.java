@@ -0,0 +1,272 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.BloodType;
+import seedu.address.model.person.DateOfBirth;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Decodes the persons of a {@link BinaryAddressBookStorage} file, one at a time.
+ *
+ * Creating a reader only walks the length prefixes of the strings and persons to note where each starts. Each string
+ * is decoded the first time a person refers to it and is then shared by every person referring to it, so a value
+ * repeated across persons (e.g. a tag or a blood type) is created once.
+ *
+ * Persons are validated by the model's constructors as they are decoded. They are not checked for duplicates, which
+ * is left to the caller. A person can also be decoded without its {@link PersonDetails}, which are then only
+ * validated, and the details decoded on their own later. Instances are not safe for use by multiple threads.
+ */
+class BinaryAddressBookReader {
+
+    private final ByteBuffer buffer;
+    private final int[] stringOffsets;
+    private final String[] strings;
+    private final int[] recordOffsets;
+
+    /**
+     * Creates a reader of the binary address book in {@code buffer}, from its position to its limit.
+     *
+     * @throws IOException if the content of {@code buffer} is not a binary address book of a supported version.
+     */
+    BinaryAddressBookReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.slice();
+        try {
+            if (this.buffer.remaining() < Integer.BYTES || this.buffer.getInt() != BinaryAddressBookStorage.MAGIC) {
+                throw new IOException(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+            }
+            long version = readVarLong(this.buffer);
+            if (version != BinaryAddressBookStorage.VERSION) {
+                throw new IOException(String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            stringOffsets = skipEntries(this.buffer, readCount(this.buffer));
+            strings = new String[stringOffsets.length];
+            recordOffsets = skipEntries(this.buffer, readCount(this.buffer));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Returns the number of persons in the file.
+     */
+    int size() {
+        return recordOffsets.length;
+    }
+
+    /**
+     * Decodes the person at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the file.
+     * @throws IllegalValueException if the person is corrupted or violates the data constraints.
+     */
+    Person readPerson(int index) throws IllegalValueException {
+        return readPerson(index, true);
+    }
+
+    /**
+     * Decodes the person at position {@code index} with empty details, only validating its details, so that
+     * {@link #readDetails(int)} decodes them later without failing.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the file.
+     * @throws IllegalValueException if the person is corrupted or violates the data constraints.
+     */
+    Person readPersonWithoutDetails(int index) throws IllegalValueException {
+        return readPerson(index, false);
+    }
+
+    private Person readPerson(int index, boolean isWithDetails) throws IllegalValueException {
+        Objects.checkIndex(index, recordOffsets.length);
+        try {
+            return readPerson(entryAt(recordOffsets[index]), isWithDetails);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Decodes the details of the person at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the file.
+     * @throws IllegalValueException if the details are corrupted or violate the data constraints.
+     */
+    PersonDetails readDetails(int index) throws IllegalValueException {
+        Objects.checkIndex(index, recordOffsets.length);
+        try {
+            ByteBuffer record = entryAt(recordOffsets[index]);
+            // the ID, name, date of birth, phone, email, address, blood type and appointment come first
+            for (int field = 0; field < 8; field++) {
+                readVarLong(record);
+            }
+            String nextOfKin = getString(readCount(record));
+            for (int count = readCount(record); count > 0; count--) {
+                readCount(record);
+            }
+            List<MedicalHistory> medicalHistory = new ArrayList<>();
+            for (int count = readCount(record); count > 0; count--) {
+                medicalHistory.add(new MedicalHistory(getString(readCount(record))));
+            }
+            return new PersonDetails(new NextOfKin(nextOfKin), new HashSet<>(medicalHistory));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the ID of the person at position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the file.
+     * @throws IllegalValueException if the person is corrupted.
+     */
+    long readId(int index) throws IllegalValueException {
+        Objects.checkIndex(index, recordOffsets.length);
+        try {
+            return readVarLong(entryAt(recordOffsets[index]));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    /**
+     * Walks past {@code count} length-prefixed entries from the position of {@code buffer}.
+     *
+     * @return the offset of the length prefix of each entry.
+     */
+    private static int[] skipEntries(ByteBuffer buffer, int count) throws IOException {
+        if (count > buffer.remaining()) {
+            throw new IOException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+        }
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = buffer.position();
+            int length = readCount(buffer);
+            if (length > buffer.remaining()) {
+                throw new IOException(BinaryAddressBookStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            buffer.position(buffer.position() + length);
+        }
+        return offsets;
+    }
+
+    /**
+     * Returns a buffer over the content of the length-prefixed entry at {@code offset}.
+     */
+    private ByteBuffer entryAt(int offset) {
+        ByteBuffer entry = buffer.duplicate();
+        entry.position(offset);
+        int length = readCount(entry);
+        entry.limit(entry.position() + length);
+        return entry;
+    }
+
+    private String getString(int index) {
+        if (strings[index] == null) {
+            ByteBuffer entry = entryAt(stringOffsets[index]);
+            byte[] bytes = new byte[entry.remaining()];
+            entry.get(bytes);
+            strings[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[index];
+    }
+
+    private Person readPerson(ByteBuffer record, boolean isWithDetails) throws IllegalValueException {
+        // bytes after the fields known to this version are left for later versions to use
+        long id = readVarLong(record);
+        String name = getString(readCount(record));
+        long dobEpochDay = readSignedVarLong(record);
+        String phone = getString(readCount(record));
+        String email = getString(readCount(record));
+        String address = getString(readCount(record));
+        String bloodType = getString(readCount(record));
+        String appointment = getString(readCount(record));
+        String nextOfKin = getString(readCount(record));
+
+        try {
+            List<Tag> tags = new ArrayList<>();
+            for (int count = readCount(record); count > 0; count--) {
+                tags.add(Tag.of(getString(readCount(record))));
+            }
+            List<MedicalHistory> medicalHistory = new ArrayList<>();
+            for (int count = readCount(record); count > 0; count--) {
+                String value = getString(readCount(record));
+                if (isWithDetails) {
+                    medicalHistory.add(new MedicalHistory(value));
+                } else if (!MedicalHistory.isValidMedicalHistory(value)) {
+                    throw new IllegalValueException(MedicalHistory.MESSAGE_CONSTRAINTS);
+                }
+            }
+            if (!isWithDetails && !nextOfKin.trim().isEmpty() && !NextOfKin.isValidNextOfKin(nextOfKin)) {
+                throw new IllegalValueException(NextOfKin.MESSAGE_CONSTRAINTS);
+            }
+            PersonDetails details = isWithDetails
+                    ? new PersonDetails(new NextOfKin(nextOfKin), new HashSet<>(medicalHistory))
+                    : PersonDetails.EMPTY;
+            List<Checkup> checkups = new ArrayList<>();
+            for (int count = readCount(record); count > 0; count--) {
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(readSignedVarLong(record) * 60, 0,
+                        ZoneOffset.UTC);
+                checkups.add(Checkup.ofStored(dateTime.toLocalDate(), dateTime.toLocalTime()));
+            }
+
+            return new Person(new Name(name), DateOfBirth.of(LocalDate.ofEpochDay(dobEpochDay)),
+                    new Phone(phone), new Email(email), new Address(address), BloodType.of(bloodType),
+                    Appointment.of(appointment), new HashSet<>(tags), details.getNextOfKin(),
+                    details.getMedicalHistory(), new HashSet<>(checkups)).withId(id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a varint that is a count, length or position, and so must fit in a non-negative int.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        long count = readVarLong(buffer);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("Count out of range: " + count);
+        }
+        return (int) count;
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Varint too long");
+    }
+
+    private static long readSignedVarLong(ByteBuffer buffer) {
+        long zigZag = readVarLong(buffer);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and the {@link #VERSION} of the format, followed by a table of the distinct
+ * strings of all persons, so that repeated values (e.g. tags, addresses, blood types) are stored once, and then the
+ * persons. Each person is prefixed by its length in bytes and refers to its strings by their position in the table.
+ * Numbers are stored as varints, dates of birth as epoch days and checkups as epoch minutes in UTC.
+ * Persons read are validated by the model's constructors, as persons read from json are, and are decoded by a
+ * {@link BinaryAddressBookReader}, which creates each distinct string once.
+ *
+ * The data file of this storage is read through a {@link MappedAddressBookFile}, which keeps the file mapped into
+ * memory and leaves the next of kin and medical history of the persons in it until they are asked for. Saving over
+ * the data file unmaps it while the new file is moved into place, and maps the new file. Other files are read
+ * whole.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The first four bytes of the file, "MBAB". */
+    public static final int MAGIC = 0x4D424142;
+    public static final int VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private Path filePath;
+
+    // The mapping of filePath that the persons read from it load their details through, once it has been read.
+    private MappedAddressBookFile mappedFile;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the json data file at {@code jsonFilePath},
+     * i.e. the same path with its {@code .json} extension, if any, replaced by {@value #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String path = jsonFilePath.toString();
+        String basePath = path.endsWith(".json") ? path.substring(0, path.length() - ".json".length()) : path;
+        return Paths.get(basePath + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (filePath.equals(this.filePath)) {
+                return Optional.of(readMapped());
+            }
+            return Optional.of(readFrom(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the data file through its mapping, mapping it first, or again if it was read before, as it may have
+     * changed since. Persons read before keep loading their details through the same mapping.
+     */
+    private synchronized AddressBook readMapped() throws IOException, IllegalValueException {
+        if (mappedFile == null) {
+            MappedAddressBookFile readFile = MappedAddressBookFile.map(filePath);
+            try {
+                AddressBook addressBook = readFile.readAddressBook();
+                mappedFile = readFile;
+                return addressBook;
+            } catch (IllegalValueException e) {
+                readFile.unmap();
+                throw e;
+            }
+        }
+        mappedFile.remap();
+        return mappedFile.readAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        MappedAddressBookFile savedOverFile = getMappedFile(filePath);
+        FileUtil.writeFileAtomically(filePath, temporaryFile -> {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile), WRITE_BUFFER_SIZE)) {
+                writeTo(addressBook.getPersonList(), out);
+            }
+        }, (temporaryFile, file) -> {
+            if (savedOverFile == null) {
+                FileUtil.moveAtomically(temporaryFile, file);
+            } else {
+                savedOverFile.replaceWith(temporaryFile);
+            }
+        });
+    }
+
+    /**
+     * Returns the mapping of the data file if it is at {@code filePath}, or null otherwise.
+     */
+    private synchronized MappedAddressBookFile getMappedFile(Path filePath) {
+        return mappedFile != null && mappedFile.getFilePath().equals(filePath) ? mappedFile : null;
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the binary format.
+     */
+    static void writeTo(List<Person> persons, OutputStream out) throws IOException {
+        Map<String, Integer> stringPositions = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Person person : persons) {
+            for (String string : getStrings(person)) {
+                if (stringPositions.putIfAbsent(string, strings.size()) == null) {
+                    strings.add(string);
+                }
+            }
+        }
+
+        RecordBuffer header = new RecordBuffer();
+        header.writeInt(MAGIC);
+        header.writeVarLong(VERSION);
+        header.writeVarLong(strings.size());
+        for (String string : strings) {
+            header.writeString(string);
+        }
+        header.writeVarLong(persons.size());
+        header.writeTo(out);
+
+        RecordBuffer record = new RecordBuffer();
+        RecordBuffer recordLength = new RecordBuffer();
+        for (Person person : persons) {
+            record.clear();
+            writePerson(person, stringPositions, record);
+            recordLength.clear();
+            recordLength.writeVarLong(record.size());
+            recordLength.writeTo(out);
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Returns the strings of {@code person} held in the string table, in the order {@link #writePerson} refers
+     * to them.
+     */
+    private static List<String> getStrings(Person person) {
+        List<String> strings = new ArrayList<>();
+        strings.add(person.getName().fullName);
+        strings.add(person.getPhone().value);
+        strings.add(person.getEmail().value);
+        strings.add(person.getAddress().value);
+        strings.add(person.getBloodType().bloodType);
+        strings.add(person.getAppointment().appointment);
+        strings.add(person.getNextOfKin().value);
+        person.getTags().forEach(tag -> strings.add(tag.tagName));
+        person.getMedicalHistory().forEach(medicalHistory -> strings.add(medicalHistory.medicalHistory));
+        return strings;
+    }
+
+    private static void writePerson(Person person, Map<String, Integer> stringPositions, RecordBuffer record) {
+        record.writeVarLong(person.getId());
+        record.writeVarLong(stringPositions.get(person.getName().fullName));
+        record.writeSignedVarLong(person.getDateOfBirth().dob.toEpochDay());
+        record.writeVarLong(stringPositions.get(person.getPhone().value));
+        record.writeVarLong(stringPositions.get(person.getEmail().value));
+        record.writeVarLong(stringPositions.get(person.getAddress().value));
+        record.writeVarLong(stringPositions.get(person.getBloodType().bloodType));
+        record.writeVarLong(stringPositions.get(person.getAppointment().appointment));
+        record.writeVarLong(stringPositions.get(person.getNextOfKin().value));
+
+        record.writeVarLong(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            record.writeVarLong(stringPositions.get(tag.tagName));
+        }
+        record.writeVarLong(person.getMedicalHistory().size());
+        for (MedicalHistory medicalHistory : person.getMedicalHistory()) {
+            record.writeVarLong(stringPositions.get(medicalHistory.medicalHistory));
+        }
+        record.writeVarLong(person.getCheckups().size());
+        for (Checkup checkup : person.getCheckups()) {
+            record.writeSignedVarLong(checkup.getDateTime().toEpochSecond(ZoneOffset.UTC) / 60);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}, from its position to its limit.
+     *
+     * @throws IOException if the content of {@code buffer} is not a binary address book of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readFrom(ByteBuffer buffer) throws IOException, IllegalValueException {
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(buffer);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < reader.size(); i++) {
+            Person person = reader.readPerson(i);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * A growable byte array that values are encoded into before being written out.
+     */
+    private static class RecordBuffer {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length);
+            ensureCapacity(encoded.length);
+            System.arraycopy(encoded, 0, bytes, size, encoded.length);
+            size += encoded.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + extra, bytes.length * 2));
+            }
+        }
+    }
+}
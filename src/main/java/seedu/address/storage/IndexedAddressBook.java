@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A list of persons read or about to be written by a storage, together with the indexes built from them.
+ */
+class IndexedAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final PrebuiltIndexes indexes;
+
+    /**
+     * Creates an {@code IndexedAddressBook} of {@code persons}, with {@code indexes} built from them.
+     */
+    IndexedAddressBook(ObservableList<Person> persons, PrebuiltIndexes indexes) {
+        requireAllNonNull(persons, indexes);
+        assert indexes.getPersonCount() == persons.size();
+        this.persons = persons;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Optional<PrebuiltIndexes> getPrebuiltIndexes() {
+        return Optional.of(indexes);
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since.
+ *
+ * The snapshot is the json file written by {@link JsonAddressBookStorage}. The journal sits next to it (the data
+ * file path with {@value #JOURNAL_SUFFIX} appended) and holds one compact {@link JsonAdaptedJournalRecord} per line.
+ * Saving compares the address book with the persons last written, by ID and by reference (persons are immutable),
+ * and appends a record for each person added, edited or removed, so its cost follows the size of the change rather
+ * than the size of the address book. Once the journal holds {@code compactionThreshold} records, or when the
+ * changes cannot be expressed as records (e.g. the persons were reordered), the snapshot is rewritten and the
+ * journal deleted. Reading replays the journal over the snapshot by ID, and checks that the persons have distinct
+ * identities only after the whole journal is replayed, so the order of the records of one save does not matter.
+ *
+ * The first line of the journal is the checksum record of the snapshot it was started against, as written to the
+ * checksum file of the snapshot. A journal whose first line does not match the snapshot, e.g. one left behind when
+ * saving was interrupted after a new snapshot was written but before the old journal was deleted, is ignored rather
+ * than replayed over a snapshot that already holds its changes, and is deleted by the next save.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    // The persons last written to persistedFilePath, keyed by ID, with their order of insertion into the file.
+    private Path persistedFilePath;
+    private final Map<Long, PersistedPerson> persistedPersons = new HashMap<>();
+    private long nextPersistedOrder;
+    private int journalRecordCount;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts the journal once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        assert compactionThreshold > 0;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> remember(filePath, addressBook, 0));
+            return snapshot;
+        }
+
+        List<String> lines;
+        String snapshotStamp;
+        try {
+            lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            snapshotStamp = snapshot.isPresent() ? JsonAddressBookStorage.getChecksumRecord(filePath) : null;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(snapshotStamp)) {
+            logger.warning("Ignoring journal file " + journalFilePath + ", which was not started against "
+                    + filePath + " as it is.");
+            // not remembered, so that the next save writes a snapshot and deletes the journal
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        Map<Long, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getId(), person));
+        int recordCount = replayJournal(journalFilePath, lines, persons);
+        try {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        } catch (DuplicatePersonException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": "
+                    + JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        remember(filePath, addressBook, recordCount);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records on {@code lines} of the journal at {@code journalFilePath}, after the first line, to
+     * {@code persons}, the persons by ID.
+     * A last record that cannot be parsed is taken to be cut short by an interrupted save and skipped.
+     *
+     * @return the number of records applied.
+     */
+    private int replayJournal(Path journalFilePath, List<String> lines, Map<Long, Person> persons)
+            throws DataLoadingException {
+        int recordCount = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord journalRecord;
+            try {
+                journalRecord = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record of journal file " + journalFilePath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                journalRecord.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<JsonAdaptedJournalRecord> records = filePath.equals(persistedFilePath)
+                ? findChanges(addressBook.getPersonList())
+                : null;
+        if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+            saveSnapshot(addressBook, filePath);
+        } else if (!records.isEmpty()) {
+            appendToJournal(records, filePath);
+        }
+    }
+
+    /**
+     * Saves the indexes of the snapshot, if {@code addressBook} holds exactly the persons of the snapshot, as when
+     * nothing was journaled since it was written.
+     */
+    @Override
+    public void saveAddressBookIndexes(ReadOnlyAddressBook addressBook) {
+        snapshotStorage.saveAddressBookIndexes(addressBook);
+    }
+
+    /**
+     * Returns records turning the persons last written into {@code persons}, remembering {@code persons} as written,
+     * or returns null if there are no such records.
+     */
+    private List<JsonAdaptedJournalRecord> findChanges(List<Person> persons) {
+        List<Person> putPersons = new ArrayList<>();
+        Set<Long> addedIds = new HashSet<>();
+        int keptCount = 0;
+        long lastKeptOrder = -1;
+        for (Person person : persons) {
+            PersistedPerson persisted = persistedPersons.get(person.getId());
+            if (persisted == null) {
+                if (person.getId() == Person.UNASSIGNED_ID || !addedIds.add(person.getId())) {
+                    return null;
+                }
+                putPersons.add(person);
+                continue;
+            }
+
+            // kept persons must stay in their order, ahead of every added person, for the replay to match
+            if (!addedIds.isEmpty() || persisted.order <= lastKeptOrder) {
+                return null;
+            }
+            lastKeptOrder = persisted.order;
+            keptCount++;
+            if (persisted.person != person) {
+                putPersons.add(person);
+            }
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (keptCount < persistedPersons.size()) {
+            Set<Long> currentIds = new HashSet<>();
+            persons.forEach(person -> currentIds.add(person.getId()));
+            for (Long id : new ArrayList<>(persistedPersons.keySet())) {
+                if (!currentIds.contains(id)) {
+                    records.add(JsonAdaptedJournalRecord.remove(id));
+                    persistedPersons.remove(id);
+                }
+            }
+        }
+        for (Person person : putPersons) {
+            records.add(JsonAdaptedJournalRecord.put(person));
+            PersistedPerson persisted = persistedPersons.get(person.getId());
+            long order = persisted == null ? nextPersistedOrder++ : persisted.order;
+            persistedPersons.put(person.getId(), new PersistedPerson(person, order));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, Path filePath) throws IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        boolean isNewJournal = !Files.exists(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isNewJournal) {
+                writer.write(JsonAddressBookStorage.getChecksumRecord(filePath));
+                writer.newLine();
+            }
+            for (JsonAdaptedJournalRecord journalRecord : records) {
+                writer.write(JsonUtil.toCompactJsonString(journalRecord));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            // the remembered persons may be ahead of the file; start over from a snapshot on the next save
+            persistedFilePath = null;
+            throw e;
+        }
+        journalRecordCount += records.size();
+    }
+
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        persistedFilePath = null;
+        // the snapshot is moved into place whole, and the journal is ignored from then on, as it no longer matches
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        remember(filePath, addressBook, 0);
+    }
+
+    /**
+     * Remembers the persons of {@code addressBook} as those last written to {@code filePath}.
+     */
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook, int recordCount) {
+        persistedPersons.clear();
+        nextPersistedOrder = 0;
+        for (Person person : addressBook.getPersonList()) {
+            persistedPersons.put(person.getId(), new PersistedPerson(person, nextPersistedOrder++));
+        }
+        persistedFilePath = filePath;
+        journalRecordCount = recordCount;
+    }
+
+    /**
+     * A person as last written, with its position in the order persons were written in.
+     */
+    private static class PersistedPerson {
+        private final Person person;
+        private final long order;
+
+        PersistedPerson(Person person, long order) {
+            this.person = person;
+            this.order = order;
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.checkup.Checkup;
 
 /**
@@ -36,22 +37,36 @@ public class JsonAdaptedCheckup {
      * @param source The Checkup object to adapt.
      */
     public JsonAdaptedCheckup(Checkup source) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
-        date = source.getCheckupDate().format(dateFormatter);
-        time = source.getCheckupTime().format(timeFormatter);
+        date = DateTimeUtil.formatDate(source.getCheckupDate());
+        time = DateTimeUtil.formatTime(source.getCheckupTime());
     }
 
     /**
      * Converts this JsonAdaptedCheckup back into a Checkup object.
+     * Checkups that have passed since they were saved are accepted, as by {@link #toTrustedModelType()}.
      *
      * @return A Checkup object corresponding to this JSON representation.
      * @throws IllegalValueException If the date or time is invalid.
      */
     public Checkup toModelType() throws IllegalValueException {
-        LocalDate checkupDate = LocalDate.parse(date, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        LocalTime checkupTime = LocalTime.parse(time, DateTimeFormatter.ofPattern("HH:mm"));
+        if (date == null || !DateTimeUtil.isValidDate(date)) {
+            throw new IllegalValueException(DateTimeUtil.MESSAGE_INVALID_DATE);
+        }
+        if (time == null || !DateTimeUtil.isValidTime(time)) {
+            throw new IllegalValueException(
+                    String.format(DateTimeUtil.MESSAGE_INVALID_TIME, DateTimeUtil.TIME_PATTERN));
+        }
+        LocalDate checkupDate = DateTimeUtil.parseDate(date);
+        LocalTime checkupTime = DateTimeUtil.parseTime(time);
 
-        return new Checkup(checkupDate, checkupTime, true);
+        return Checkup.ofStored(checkupDate, checkupTime);
+    }
+
+    /**
+     * Converts this JsonAdaptedCheckup back into a Checkup object, trusting it to be valid as it was saved by this
+     * app, so that it accepts the same checkups as {@link #toModelType()} without validating them again.
+     */
+    public Checkup toTrustedModelType() {
+        return Checkup.ofTrusted(LocalDateTime.of(DateTimeUtil.parseDate(date), DateTimeUtil.parseTime(time)));
     }
 }
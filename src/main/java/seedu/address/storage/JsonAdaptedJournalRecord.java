@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to an address book, as recorded in the journal of a
+ * {@link JournaledAddressBookStorage}.
+ * A record either puts a person, i.e. adds it or replaces the person with the same ID, or removes the person with
+ * the given ID. Applying a record twice has the same effect as applying it once.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String PUT = "put";
+    public static final String REMOVE = "remove";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is neither a valid put nor a valid remove.";
+
+    private final String op;
+    private final Long id;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("id") Long id,
+                                    @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.id = id;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record putting {@code person}, which must have an ID.
+     */
+    public static JsonAdaptedJournalRecord put(Person person) {
+        requireNonNull(person);
+        assert person.getId() > Person.UNASSIGNED_ID;
+        return new JsonAdaptedJournalRecord(PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record removing the person with the given {@code id}.
+     */
+    public static JsonAdaptedJournalRecord remove(long id) {
+        return new JsonAdaptedJournalRecord(REMOVE, id, null);
+    }
+
+    /**
+     * Applies this record to {@code persons}, the persons of an address book by ID in their order in it.
+     * A put replaces the person with the same ID in place, or adds the person at the end.
+     * Whether the persons have distinct identities is not checked here, but once every record of the journal has
+     * been applied, as the records of one save may have a person take an identity that a later record gives up.
+     *
+     * @throws IllegalValueException if the record is invalid.
+     */
+    public void applyTo(Map<Long, Person> persons) throws IllegalValueException {
+        if (PUT.equals(op) && person != null) {
+            Person putPerson = person.toModelType();
+            if (putPerson.getId() == Person.UNASSIGNED_ID) {
+                throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+            }
+            persons.put(putPerson.getId(), putPerson);
+        } else if (REMOVE.equals(op) && id != null) {
+            persons.remove(id);
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
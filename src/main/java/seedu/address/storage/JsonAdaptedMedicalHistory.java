@@ -44,4 +44,12 @@ public class JsonAdaptedMedicalHistory {
         }
         return new MedicalHistory(medicalHistory);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted medical history object into the model's {@code MedicalHistory} object,
+     * trusting it to be valid as it was saved by this app.
+     */
+    public MedicalHistory toTrustedModelType() {
+        return new MedicalHistory(medicalHistory);
+    }
 }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.checkup.Checkup;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Appointment;
@@ -20,6 +21,7 @@ import seedu.address.model.person.MedicalHistory;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NextOfKin;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 
@@ -29,7 +31,9 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_INVALID_ID = "Person's id must be a positive number.";
 
+    private final Long id;
     private final String name;
     private final String dob;
     private final String phone;
@@ -42,11 +46,23 @@ class JsonAdaptedPerson {
     private final List<JsonAdaptedCheckup> checkups = new ArrayList<>();
     private final List<JsonAdaptedMedicalHistory> medicalHistory = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String dob, String phone, String email, String address, String bloodType,
+                             String appointment, String nextOfKin, List<JsonAdaptedTag> tags,
+                             List<JsonAdaptedMedicalHistory> medicalHistory, List<JsonAdaptedCheckup> checkups) {
+        this(null, name, dob, phone, email, address, bloodType, appointment, nextOfKin, tags, medicalHistory,
+                checkups);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} may be null for data saved before persons had IDs.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("dob") String dob,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name, @JsonProperty("dob") String dob,
                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("bloodType") String bloodType,
@@ -55,6 +71,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
                              @JsonProperty("medicalHistory") List<JsonAdaptedMedicalHistory> medicalHistory,
                              @JsonProperty("checkups") List<JsonAdaptedCheckup> checkups) {
+        this.id = id;
         this.name = name;
         this.dob = dob;
         this.phone = phone;
@@ -81,6 +98,9 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        // loaded once for both of its fields, as a person may load its details each time they are asked for
+        PersonDetails details = source.getDetails();
+        id = source.getId() == Person.UNASSIGNED_ID ? null : source.getId();
         name = source.getName().fullName;
         dob = source.getDateOfBirth().toString();
         phone = source.getPhone().value;
@@ -88,14 +108,14 @@ class JsonAdaptedPerson {
         address = source.getAddress().value;
         bloodType = source.getBloodType().bloodType;
         appointment = source.getAppointment().appointment;
-        nextOfKin = source.getNextOfKin().value;
+        nextOfKin = details.getNextOfKin().value;
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
         checkups.addAll(source.getCheckups().stream()
                 .map(JsonAdaptedCheckup::new)
                 .collect(Collectors.toList()));
-        medicalHistory.addAll(source.getMedicalHistory().stream().map(JsonAdaptedMedicalHistory::new)
+        medicalHistory.addAll(details.getMedicalHistory().stream().map(JsonAdaptedMedicalHistory::new)
                                                                  .collect(Collectors.toList()));
     }
 
@@ -171,7 +191,7 @@ class JsonAdaptedPerson {
         if (!BloodType.isValidBloodType(bloodType)) {
             throw new IllegalValueException(BloodType.MESSAGE_CONSTRAINTS);
         }
-        final BloodType modelBloodType = new BloodType(bloodType);
+        final BloodType modelBloodType = BloodType.of(bloodType);
 
         if (appointment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -180,7 +200,7 @@ class JsonAdaptedPerson {
         if (!Appointment.isValidAppointment(appointment)) {
             throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
         }
-        final Appointment modelAppointment = new Appointment(appointment);
+        final Appointment modelAppointment = Appointment.of(appointment);
 
         final NextOfKin modelNextOfKin = new NextOfKin(nextOfKin);
 
@@ -188,7 +208,43 @@ class JsonAdaptedPerson {
         final Set<Checkup> modelCheckups = new HashSet<>(personCheckups);
         final Set<MedicalHistory> modelMedicalHistory = new HashSet<>(personMedicalHistory);
 
+        if (id != null && id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
+        final long modelId = id == null ? Person.UNASSIGNED_ID : id;
+
         return new Person(modelName, modelDateOfBirth, modelPhone, modelEmail, modelAddress, modelBloodType,
-                modelAppointment, modelTags, modelNextOfKin, modelMedicalHistory, modelCheckups);
+                modelAppointment, modelTags, modelNextOfKin, modelMedicalHistory, modelCheckups).withId(modelId);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, trusting its
+     * fields to be as they were saved by this app from a valid {@code Person}, so that they are not validated again.
+     *
+     * @throws IllegalValueException if a field is missing.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        if (name == null || dob == null || phone == null || email == null || address == null || bloodType == null
+                || appointment == null || nextOfKin == null || id == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "trusted"));
+        }
+
+        Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        Set<MedicalHistory> modelMedicalHistory = new HashSet<>();
+        for (JsonAdaptedMedicalHistory medicalHistory : medicalHistory) {
+            modelMedicalHistory.add(medicalHistory.toTrustedModelType());
+        }
+        Set<Checkup> modelCheckups = new HashSet<>();
+        for (JsonAdaptedCheckup checkup : checkups) {
+            modelCheckups.add(checkup.toTrustedModelType());
+        }
+
+        return new Person(Name.ofTrusted(name), DateOfBirth.ofTrusted(DateTimeUtil.parseDate(dob)),
+                Phone.ofTrusted(phone), Email.ofTrusted(email), Address.ofTrusted(address), BloodType.of(bloodType),
+                Appointment.of(appointment), modelTags, NextOfKin.ofTrusted(nextOfKin), modelMedicalHistory,
+                modelCheckups).withId(id);
     }
 }
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}.
+ * The manifest records how many person IDs each segment covers, the generation of the latest save, and for each
+ * segment the generation its file was written in, or 0 if the segment holds no persons.
+ */
+class JsonAdaptedSegmentManifest {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Segment manifest is invalid.";
+
+    private final int segmentSize;
+    private final long generation;
+    private final List<Long> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("segmentSize") int segmentSize,
+                                      @JsonProperty("generation") long generation,
+                                      @JsonProperty("segments") List<Long> segments) {
+        this.segmentSize = segmentSize;
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Returns the generation the file of segment {@code index} was written in, or 0 if the segment holds no persons.
+     */
+    public long getSegmentGeneration(int index) {
+        return index < segments.size() ? segments.get(index) : 0;
+    }
+
+    /**
+     * Checks that the manifest describes segments that can be read.
+     *
+     * @throws IllegalValueException if the segment size or any segment generation is out of range.
+     */
+    public void check() throws IllegalValueException {
+        if (segmentSize <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        for (Long segmentGeneration : segments) {
+            if (segmentGeneration == null || segmentGeneration < 0 || segmentGeneration > generation) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+    }
+}
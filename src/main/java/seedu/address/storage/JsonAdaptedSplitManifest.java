@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SplitAddressBookStorage}.
+ * The manifest records the generation of the latest save, which names the persons and details files it wrote.
+ */
+class JsonAdaptedSplitManifest {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Split data manifest is invalid.";
+
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonAdaptedSplitManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSplitManifest(@JsonProperty("generation") long generation) {
+        this.generation = generation;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks that the manifest names files that can be read.
+     *
+     * @throws IllegalValueException if the generation is out of range.
+     */
+    public void check() throws IllegalValueException {
+        if (generation <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+    }
+}
@@ -42,7 +42,15 @@ class JsonAdaptedTag {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object, trusting it to be
+     * valid as it was saved by this app.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.of(tagName);
     }
 
 }
@@ -3,34 +3,94 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.PrebuiltIndexes;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person at a time, and written pretty-printed unless the storage is compact.
+ *
+ * Each save also writes a checksum file next to the data file, recording the format and the checksum of what was
+ * written. A data file that still matches its checksum file was written by this app from valid persons, so its
+ * persons are read without validating their fields again. A data file that was edited by hand, or whose checksum
+ * file is missing or of another format, is validated as usual. So that the data file is read only once, its checksum
+ * is computed as it is parsed: a data file of the recorded size is parsed without validation, and read again with
+ * validation only if its checksum turns out not to match.
+ *
+ * The {@link PrebuiltIndexes} of the persons are kept in an indexes file next to the data file, stamped with the
+ * checksum record of the data file. Reading a data file that still matches its checksum file restores the indexes
+ * from the indexes file when it bears the same stamp, rather than leaving the model to build them again. As building
+ * the indexes goes through every person, a save writes the indexes file only if the address book saved already has
+ * its indexes, e.g. as read, and deletes it otherwise; {@link #saveAddressBookIndexes(ReadOnlyAddressBook)} writes
+ * it for the persons last saved, when the application stops.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String CHECKSUM_FILE_EXTENSION = ".checksum";
+    public static final String INDEXES_FILE_EXTENSION = ".indexes";
+
+    // to be changed whenever the fields of a person are validated differently, so that earlier files are validated
+    private static final String TRUSTED_FORMAT = "medibook-json-1";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+
+    // The persons last saved to savedFilePath without their indexes, and the checksum record of what was written.
+    private Path savedFilePath;
+    private List<Person> savedPersons;
+    private String savedChecksumRecord;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes the file on a single line if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the checksum file of the data file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the indexes file of the data file at {@code filePath}.
+     */
+    public static Path getIndexesFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + INDEXES_FILE_EXTENSION);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -43,16 +103,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, person -> { });
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but gives {@code onPersonRead} each person as soon as it is read,
+     * before the rest of the file is read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @param onPersonRead the consumer of each person read. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<? super Person> onPersonRead)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(onPersonRead);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        String checksumRecord = readChecksumRecordIfSameSize(filePath);
+        if (checksumRecord != null) {
+            ReadOnlyAddressBook addressBook = readTrustedAddressBook(filePath, checksumRecord, onPersonRead);
+            if (addressBook != null) {
+                return Optional.of(addressBook);
+            }
+        }
+        logger.info("JSON file " + filePath + " does not match its checksum file, and will be validated.");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readFrom(parser, onPersonRead));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -69,12 +154,174 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        savedPersons = null;
+        // removed first, so that the new data file is never checked against the checksum of the old one
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        Files.deleteIfExists(checksumFilePath);
+        // written to a temporary file and moved into place, so a failed save leaves the old data file whole
+        long checksum = JsonUtil.writeJsonFile(filePath, isCompact,
+                generator -> JsonSerializableAddressBook.writeTo(addressBook, generator));
+        String checksumRecord = toChecksumRecord(Files.size(filePath), checksum);
+        FileUtil.writeToFileAtomically(checksumFilePath, checksumRecord);
+
+        List<Person> persons = addressBook.getPersonList();
+        Path indexesFilePath = getIndexesFilePath(filePath);
+        Optional<PrebuiltIndexes> indexes = addressBook.getPrebuiltIndexes()
+                .filter(prebuiltIndexes -> prebuiltIndexes.getPersonCount() == persons.size());
+        if (indexes.isPresent()) {
+            writeIndexes(indexes.get(), indexesFilePath, checksumRecord);
+            return;
+        }
+        // the stamp would no longer match, so the stale indexes file is only in the way
+        deleteIndexes(indexesFilePath);
+        savedFilePath = filePath;
+        savedPersons = List.copyOf(persons);
+        savedChecksumRecord = checksumRecord;
+    }
+
+    /**
+     * Writes the indexes file of the persons last saved, building their indexes unless {@code addressBook} has them
+     * already, if {@code addressBook} still holds those persons in the same order, and they were saved without
+     * their indexes.
+     */
+    @Override
+    public synchronized void saveAddressBookIndexes(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> persons = addressBook.getPersonList();
+        if (savedPersons == null || !isSamePersons(savedPersons, persons)) {
+            return;
+        }
+
+        PrebuiltIndexes indexes = addressBook.getPrebuiltIndexes()
+                .filter(prebuiltIndexes -> prebuiltIndexes.getPersonCount() == persons.size())
+                .orElseGet(() -> PrebuiltIndexes.build(persons));
+        writeIndexes(indexes, getIndexesFilePath(savedFilePath), savedChecksumRecord);
+        savedPersons = null;
+    }
+
+    /**
+     * Returns true if {@code persons} holds the same person objects as {@code savedPersons}, in the same order.
+     * Persons are immutable, so the same objects have the same fields.
+     */
+    private static boolean isSamePersons(List<Person> savedPersons, List<Person> persons) {
+        if (savedPersons.size() != persons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (savedPersons.get(i) != persons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code indexes} stamped with the checksum record of the data file they go with. Failing to write them
+     * is logged rather than thrown, as the data file is saved by then and the indexes can be built again on the next
+     * read.
+     */
+    private static void writeIndexes(PrebuiltIndexes indexes, Path indexesFilePath, String checksumRecord) {
+        try {
+            PrebuiltIndexesFile.write(indexes, checksumRecord, indexesFilePath);
+        } catch (IOException e) {
+            logger.warning("Error writing indexes file " + indexesFilePath + ": " + e);
+            deleteIndexes(indexesFilePath);
+        }
+    }
+
+    private static void deleteIndexes(Path indexesFilePath) {
+        try {
+            Files.deleteIfExists(indexesFilePath);
+        } catch (IOException e) {
+            logger.warning("Error deleting indexes file " + indexesFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the indexes in the indexes file of the data file at {@code filePath} if they are stamped with
+     * {@code checksumRecord}, i.e. were built from the data file as it is, or null otherwise.
+     */
+    private static PrebuiltIndexes readIndexesIfValid(Path filePath, String checksumRecord) {
+        Path indexesFilePath = getIndexesFilePath(filePath);
+        try {
+            PrebuiltIndexes indexes = PrebuiltIndexesFile.read(indexesFilePath, checksumRecord).orElse(null);
+            if (indexes == null) {
+                logger.info("Indexes file " + indexesFilePath + " does not match " + filePath
+                        + ", and the indexes will be built.");
+            }
+            return indexes;
+        } catch (IOException e) {
+            logger.warning("Error reading indexes file " + indexesFilePath + ", the indexes will be built: " + e);
+            return null;
+        }
+    }
+
+    private static String toChecksumRecord(long size, long checksum) {
+        return TRUSTED_FORMAT + " " + size + " " + Long.toHexString(checksum);
+    }
+
+    /**
+     * Returns the checksum record of the content of the data file at {@code filePath}, as a save writing that content
+     * records it in the checksum file, whether or not the checksum file is there.
+     * Assumes file exists
+     */
+    static String getChecksumRecord(Path filePath) throws IOException {
+        return toChecksumRecord(Files.size(filePath), FileUtil.getChecksum(filePath));
+    }
+
+    /**
+     * Returns the checksum record in the checksum file of the data file at {@code filePath} if it is of the current
+     * format and records the size the data file still has, or null otherwise.
+     */
+    private static String readChecksumRecordIfSameSize(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!FileUtil.isFileExists(checksumFilePath)) {
+            return null;
+        }
+        try {
+            String checksumRecord = FileUtil.readFromFile(checksumFilePath).trim();
+            return checksumRecord.startsWith(TRUSTED_FORMAT + " " + Files.size(filePath) + " ") ? checksumRecord : null;
+        } catch (IOException e) {
+            logger.warning("Error reading checksum of " + filePath + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath} without validating its persons, computing its checksum as it is read,
+     * and returns the address book read, with the indexes in its indexes file if they are stamped with
+     * {@code checksumRecord}. Returns null if what was read does not match {@code checksumRecord} after all, or could
+     * not be read, in which case the file has to be read again with validation; {@code onPersonRead} may have been
+     * given persons by then, as by a read that fails part way.
+     */
+    private static ReadOnlyAddressBook readTrustedAddressBook(Path filePath, String checksumRecord,
+            Consumer<? super Person> onPersonRead) {
+        CRC32 checksum = new CRC32();
+        ReadOnlyAddressBook addressBook;
+        long size;
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            addressBook = JsonSerializableAddressBook.readFrom(parser, onPersonRead, true);
+            // the parser may stop short of the end of the file, e.g. before trailing whitespace
+            in.transferTo(OutputStream.nullOutputStream());
+            size = Files.size(filePath);
+        } catch (IOException | IllegalValueException e) {
+            // a file that no longer parses is not what was saved; the validated read reports what is wrong with it
+            return null;
+        }
+        if (!checksumRecord.equals(toChecksumRecord(size, checksum.getValue()))) {
+            return null;
+        }
+
+        PrebuiltIndexes indexes = readIndexesIfValid(filePath, checksumRecord);
+        if (indexes == null || indexes.getPersonCount() != addressBook.getPersonList().size()) {
+            return addressBook;
+        }
+        return new IndexedAddressBook(addressBook.getPersonList(), indexes);
     }
 
 }
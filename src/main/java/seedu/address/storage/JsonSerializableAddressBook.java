@@ -1,17 +1,30 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentityKey;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +34,13 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+    // fewer persons than this are converted on the calling thread, as forking would cost more than it saves
+    private static final int PARALLEL_THRESHOLD = 256;
+    private static final int READ_CHUNK_SIZE = 4096;
+    private static final ObjectReader PERSON_READER = JsonUtil.readerFor(JsonAdaptedPerson.class);
+    private static final ObjectWriter PERSON_WRITER = JsonUtil.writerFor(JsonAdaptedPerson.class);
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -40,6 +60,104 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as a {@code JsonSerializableAddressBook} would be written,
+     * adapting one person at a time so that only the person being written is held in its json-friendly form.
+     */
+    public static void writeTo(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writeTo(source.getPersonList(), generator);
+    }
+
+    /**
+     * Writes an address book of {@code persons} to {@code generator}, as {@link #writeTo(ReadOnlyAddressBook,
+     * JsonGenerator)} does.
+     */
+    static void writeTo(List<Person> persons, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            PERSON_WRITER.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written as a {@code JsonSerializableAddressBook} from {@code parser}, converting the
+     * persons into the model's {@code Person}s a chunk at a time as they are read, so that only the chunk being read
+     * is held in its json-friendly form. {@code onPersonRead} is given each person once it has been added to the
+     * address book, before the persons after its chunk are read.
+     *
+     * @throws IOException if the content of {@code parser} is not an address book in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser, Consumer<? super Person> onPersonRead)
+            throws IOException, IllegalValueException {
+        return readFrom(parser, onPersonRead, false);
+    }
+
+    /**
+     * Similar to {@link #readFrom(JsonParser, Consumer)}, but if {@code isTrusted} is true, the persons are
+     * converted through {@link JsonAdaptedPerson#toTrustedModelType()} without validating their fields. Persons are
+     * still checked for duplicates.
+     * Only trust content that was written by {@link #writeTo(ReadOnlyAddressBook, JsonGenerator)} and is known to
+     * be unchanged since.
+     */
+    public static AddressBook readFrom(JsonParser parser, Consumer<? super Person> onPersonRead, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        return readFrom(parser, onPersonRead, READ_CHUNK_SIZE, isTrusted);
+    }
+
+    /**
+     * Similar to {@link #readFrom(JsonParser, Consumer)}, converting chunks of {@code chunkSize} persons.
+     */
+    static AddressBook readFrom(JsonParser parser, Consumer<? super Person> onPersonRead, int chunkSize)
+            throws IOException, IllegalValueException {
+        return readFrom(parser, onPersonRead, chunkSize, false);
+    }
+
+    private static AddressBook readFrom(JsonParser parser, Consumer<? super Person> onPersonRead, int chunkSize,
+            boolean isTrusted) throws IOException, IllegalValueException {
+        assert chunkSize > 0;
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = null;
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals(PERSONS_FIELD)) {
+                // unknown properties are ignored, as when reading the whole document
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a list of persons");
+            }
+
+            addressBook = new AddressBook();
+            List<JsonAdaptedPerson> chunk = new ArrayList<>();
+            JsonToken elementToken;
+            while ((elementToken = parser.nextToken()) == JsonToken.START_OBJECT) {
+                chunk.add(PERSON_READER.readValue(parser));
+                if (chunk.size() == chunkSize) {
+                    addPersons(chunk, addressBook, onPersonRead, isTrusted);
+                    chunk.clear();
+                }
+            }
+            if (elementToken != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a person object");
+            }
+            addPersons(chunk, addressBook, onPersonRead, isTrusted);
+        }
+
+        if (addressBook == null) {
+            throw new JsonParseException(parser, "Missing list of persons");
+        }
+        return addressBook;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -47,14 +165,54 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        addPersons(persons, addressBook, person -> { }, false);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPersons} into the model's {@code Person}s and adds them to {@code addressBook} in
+     * order, giving each person added to {@code onPersonAdded}.
+     * Large lists are converted in parallel on the common fork-join pool, with duplicates found through a concurrent
+     * map from each identity to the first position it appears at. The exception thrown, including an unexpected
+     * {@code RuntimeException}, is still that of the first person in order that is invalid or the same as a person
+     * before it, as if the persons were converted one by one.
+     * If {@code isTrusted} is true, the fields of the persons are not validated.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static void addPersons(List<JsonAdaptedPerson> jsonAdaptedPersons, AddressBook addressBook,
+            Consumer<? super Person> onPersonAdded, boolean isTrusted) throws IllegalValueException {
+        int size = jsonAdaptedPersons.size();
+        Person[] convertedPersons = new Person[size];
+        Exception[] conversionErrors = new Exception[size];
+        ConcurrentMap<PersonIdentityKey, Integer> firstPositions = new ConcurrentHashMap<>();
+
+        IntStream positions = IntStream.range(0, size);
+        (size < PARALLEL_THRESHOLD ? positions : positions.parallel()).forEach(i -> {
+            try {
+                JsonAdaptedPerson jsonAdaptedPerson = jsonAdaptedPersons.get(i);
+                Person person = isTrusted ? jsonAdaptedPerson.toTrustedModelType() : jsonAdaptedPerson.toModelType();
+                convertedPersons[i] = person;
+                firstPositions.merge(person.getIdentityKey(), i, Math::min);
+            } catch (IllegalValueException | RuntimeException e) {
+                // kept rather than thrown, so that which error is thrown does not depend on the order of the threads
+                conversionErrors[i] = e;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (conversionErrors[i] instanceof IllegalValueException ive) {
+                throw ive;
+            } else if (conversionErrors[i] != null) {
+                throw (RuntimeException) conversionErrors[i];
+            }
+            Person person = convertedPersons[i];
+            if (firstPositions.get(person.getIdentityKey()) != i || addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
+            onPersonAdded.accept(person);
         }
-        return addressBook;
     }
 
 }
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.PersonDetailsLoader;
+
+/**
+ * A {@link BinaryAddressBookStorage} file mapped into memory, through which the persons read from it load their
+ * {@link PersonDetails} (next of kin and medical history) each time they are asked for, rather than holding them.
+ *
+ * Reading decodes every person but its details, which are only validated, so that a bad record is still found as
+ * the file is read. The model needs the other fields of every person for its indexes and sorted views, so only the
+ * details are left in the file.
+ *
+ * The file is unmapped before a save replaces it, as some platforms do not let a mapped file be replaced, and the
+ * file written in its place is mapped instead. The persons read before keep loading their details through this
+ * file, as the file written in its place holds the same details for their IDs. Loading and replacing are safe for
+ * use by multiple threads, e.g. by the UI while the storage saves in the background.
+ */
+class MappedAddressBookFile implements PersonDetailsLoader {
+
+    public static final String MESSAGE_UNMAPPED_FILE = "Binary address book file %1$s could not be mapped again.";
+    public static final String MESSAGE_MISSING_DETAILS = "Binary address book has no person with ID %1$d.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookFile.class);
+
+    private final Path filePath;
+
+    // guarded by this; all null while the file is not mapped, as the mapping must not be read once unmapped
+    private MappedByteBuffer buffer;
+    private BinaryAddressBookReader reader;
+    private Map<Long, Integer> positionsById;
+
+    private MappedAddressBookFile(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Maps the binary address book file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be mapped or is not a binary address book of a supported version.
+     */
+    static MappedAddressBookFile map(Path filePath) throws IOException {
+        MappedAddressBookFile file = new MappedAddressBookFile(filePath);
+        file.mapFile();
+        return file;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the persons of the file into an address book. Persons with an ID of their own load their details
+     * through this file; the others hold them.
+     *
+     * @throws IllegalValueException if a person is corrupted, violates the data constraints or is a duplicate.
+     * @throws IOException if the file is no longer mapped.
+     */
+    synchronized AddressBook readAddressBook() throws IllegalValueException, IOException {
+        requireMapped();
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < reader.size(); i++) {
+            Person person = reader.readPersonWithoutDetails(i);
+            boolean isLoadedById = positionsById.get(person.getId()) == i && person.getId() != Person.UNASSIGNED_ID;
+            person = isLoadedById ? person.withLazyDetails(this) : person.withDetails(reader.readDetails(i));
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the details of the person with ID {@code id}, decoded from the file.
+     *
+     * @throws IllegalStateException if the file has no valid details of the person, or is no longer mapped.
+     */
+    @Override
+    public synchronized PersonDetails loadDetails(long id) {
+        if (reader == null) {
+            throw new IllegalStateException(String.format(MESSAGE_UNMAPPED_FILE, filePath));
+        }
+        Integer position = positionsById.get(id);
+        if (position == null) {
+            throw new IllegalStateException(String.format(MESSAGE_MISSING_DETAILS, id));
+        }
+        try {
+            return reader.readDetails(position);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Unmaps the file, moves {@code temporaryFile} over it and maps the file now in its place, which must hold the
+     * same details by ID for every person loading its details through this file. If the move fails, the file is
+     * mapped again as it was.
+     */
+    synchronized void replaceWith(Path temporaryFile) throws IOException {
+        unmapFile();
+        try {
+            FileUtil.moveAtomically(temporaryFile, filePath);
+        } finally {
+            mapFile();
+        }
+    }
+
+    /**
+     * Unmaps the file and maps it again, e.g. to read it again after it was replaced.
+     */
+    synchronized void remap() throws IOException {
+        unmapFile();
+        mapFile();
+    }
+
+    /**
+     * Unmaps the file for good. Persons still loading their details through it can no longer load them.
+     */
+    synchronized void unmap() {
+        unmapFile();
+    }
+
+    private void requireMapped() throws IOException {
+        if (reader == null) {
+            throw new IOException(String.format(MESSAGE_UNMAPPED_FILE, filePath));
+        }
+    }
+
+    private void mapFile() throws IOException {
+        MappedByteBuffer mappedBuffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            BinaryAddressBookReader mappedReader = new BinaryAddressBookReader(mappedBuffer);
+            Map<Long, Integer> mappedPositions = new HashMap<>();
+            for (int i = 0; i < mappedReader.size(); i++) {
+                mappedPositions.putIfAbsent(mappedReader.readId(i), i);
+            }
+            buffer = mappedBuffer;
+            reader = mappedReader;
+            positionsById = mappedPositions;
+        } catch (IOException e) {
+            unmap(mappedBuffer);
+            throw e;
+        } catch (IllegalValueException e) {
+            unmap(mappedBuffer);
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void unmapFile() {
+        if (buffer == null) {
+            return;
+        }
+        MappedByteBuffer mappedBuffer = buffer;
+        buffer = null;
+        reader = null;
+        positionsById = null;
+        unmap(mappedBuffer);
+    }
+
+    /**
+     * Releases the mapping of {@code mappedBuffer} at once, which must not be read from then on. Java 17 has no
+     * public way to do so, so this goes through the cleaner of {@code sun.misc.Unsafe}, as libraries that map files
+     * do; if that is not available, the mapping is left to be released when the buffer is garbage collected.
+     */
+    private static void unmap(MappedByteBuffer mappedBuffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafeField.get(null), mappedBuffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warning("Could not unmap binary address book file, leaving it to garbage collection: " + e);
+        }
+    }
+}
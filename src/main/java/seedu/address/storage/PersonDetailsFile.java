@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.MedicalHistory;
+import seedu.address.model.person.NextOfKin;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.PersonDetailsLoader;
+
+/**
+ * A file of the {@link PersonDetails} of persons, indexed by person ID, that loads the details of a person only when
+ * they are asked for.
+ *
+ * The file starts with a header, followed by the encoded details of each person, an index of the ID, offset and
+ * length of each entry sorted by ID, and a trailer giving the offset of the index and the number of entries. Opening
+ * the file reads only the index; each load then reads and decodes one entry, and the most recently loaded details
+ * are kept in a bounded cache.
+ *
+ * The details are validated by the model's constructors as they are loaded. Loading is safe for use by multiple
+ * threads, e.g. by the UI while the storage writes the next file in the background.
+ */
+class PersonDetailsFile implements PersonDetailsLoader {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Person details file is corrupted.";
+    public static final String MESSAGE_MISSING_DETAILS = "No details of person with ID %1$d.";
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    static final int MAGIC = 0x4D424454; // "MBDT"
+    static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int INDEX_ENTRY_SIZE = 2 * Long.BYTES + Integer.BYTES;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private volatile Index index;
+    private final Map<Long, PersonDetails> cache;
+
+    private PersonDetailsFile(Index index, int cacheSize) {
+        this.index = index;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PersonDetails> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Opens the details file at {@code filePath}, keeping up to {@value #DEFAULT_CACHE_SIZE} loaded details.
+     *
+     * @throws IOException if the file cannot be read or is not a details file of a supported version.
+     */
+    public static PersonDetailsFile open(Path filePath) throws IOException {
+        return open(filePath, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens the details file at {@code filePath}, keeping up to {@code cacheSize} loaded details.
+     *
+     * @throws IOException if the file cannot be read or is not a details file of a supported version.
+     */
+    static PersonDetailsFile open(Path filePath, int cacheSize) throws IOException {
+        assert cacheSize > 0;
+        return new PersonDetailsFile(Index.read(filePath), cacheSize);
+    }
+
+    /**
+     * Writes the details of {@code persons} to a new details file at {@code filePath}, by person ID.
+     * The persons must have distinct, assigned IDs. The entries of persons whose details are loaded by {@code source}
+     * are copied from it as they are, without being loaded.
+     *
+     * @param source may be null.
+     * @return the written file, keeping up to {@value #DEFAULT_CACHE_SIZE} loaded details.
+     */
+    public static PersonDetailsFile write(List<Person> persons, Path filePath, PersonDetailsFile source)
+            throws IOException {
+        int count = persons.size();
+        long[] ids = new long[count];
+        long[] offsets = new long[count];
+        int[] lengths = new int[count];
+
+        Index sourceIndex = source == null ? null : source.index;
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream();
+        DataOutputStream entry = new DataOutputStream(entryBytes);
+        try (FileChannel sourceChannel = sourceIndex == null ? null : sourceIndex.openChannel();
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(filePath), WRITE_BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            long offset = HEADER_SIZE;
+            for (int i = 0; i < count; i++) {
+                Person person = persons.get(i);
+                entryBytes.reset();
+                if (sourceChannel != null && person.isDetailsLoadedBy(source)) {
+                    entry.write(sourceIndex.readEntry(sourceChannel, person.getId()));
+                } else {
+                    writeEntry(person.getDetails(), entry);
+                }
+                entryBytes.writeTo(out);
+                ids[i] = person.getId();
+                offsets[i] = offset;
+                lengths[i] = entryBytes.size();
+                offset += entryBytes.size();
+            }
+
+            Index index = Index.sortedById(filePath, ids, offsets, lengths);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(index.ids[i]);
+                out.writeLong(index.offsets[i]);
+                out.writeInt(index.lengths[i]);
+            }
+            out.writeLong(offset);
+            out.writeInt(count);
+            return new PersonDetailsFile(index, DEFAULT_CACHE_SIZE);
+        }
+    }
+
+    /**
+     * Returns true if the file has details of the person with ID {@code id}.
+     */
+    public boolean hasDetails(long id) {
+        return index.find(id) >= 0;
+    }
+
+    @Override
+    public boolean isLoaded(long id) {
+        synchronized (cache) {
+            return cache.containsKey(id);
+        }
+    }
+
+    /**
+     * Returns the details of the person with ID {@code id}, from the cache if they were loaded recently.
+     *
+     * @throws IllegalStateException if the file has no valid details of the person, or cannot be read.
+     */
+    @Override
+    public PersonDetails loadDetails(long id) {
+        synchronized (cache) {
+            PersonDetails cachedDetails = cache.get(id);
+            if (cachedDetails != null) {
+                return cachedDetails;
+            }
+        }
+
+        Index currentIndex = index;
+        byte[] entry;
+        try {
+            entry = currentIndex.readEntry(id);
+        } catch (IOException e) {
+            if (index == currentIndex) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            // the file was replaced, and may have been deleted, while being read
+            return loadDetails(id);
+        }
+
+        PersonDetails details = readEntry(ByteBuffer.wrap(entry));
+        synchronized (cache) {
+            cache.put(id, details);
+        }
+        return details;
+    }
+
+    /**
+     * Makes this file load from {@code newerFile} from now on, as it holds the same details for every person whose
+     * details were loaded by this file, e.g. as it was written by {@link #write} with this file as the source.
+     */
+    public void replaceWith(PersonDetailsFile newerFile) {
+        index = newerFile.index;
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of details held in the cache.
+     */
+    int getCachedCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static void writeEntry(PersonDetails details, DataOutputStream entry) throws IOException {
+        NextOfKin nextOfKin = details.getNextOfKin();
+        entry.writeBoolean(nextOfKin != null);
+        if (nextOfKin != null) {
+            writeString(nextOfKin.value, entry);
+        }
+        entry.writeInt(details.getMedicalHistory().size());
+        for (MedicalHistory medicalHistory : details.getMedicalHistory()) {
+            writeString(medicalHistory.medicalHistory, entry);
+        }
+    }
+
+    private static void writeString(String string, DataOutputStream entry) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        entry.writeInt(bytes.length);
+        entry.write(bytes);
+    }
+
+    private static PersonDetails readEntry(ByteBuffer entry) {
+        try {
+            NextOfKin nextOfKin = entry.get() != 0 ? new NextOfKin(readString(entry)) : null;
+            int count = entry.getInt();
+            if (count < 0 || count > entry.remaining()) {
+                throw new IllegalStateException(MESSAGE_CORRUPTED_FILE);
+            }
+            Set<MedicalHistory> medicalHistories = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                String medicalHistory = readString(entry);
+                if (!MedicalHistory.isValidMedicalHistory(medicalHistory)) {
+                    throw new IllegalStateException(MedicalHistory.MESSAGE_CONSTRAINTS);
+                }
+                medicalHistories.add(new MedicalHistory(medicalHistory));
+            }
+            return new PersonDetails(nextOfKin, medicalHistories);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalStateException(MESSAGE_CORRUPTED_FILE, e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static String readString(ByteBuffer entry) {
+        int length = entry.getInt();
+        if (length < 0 || length > entry.remaining()) {
+            throw new IndexOutOfBoundsException("String length out of range: " + length);
+        }
+        String string = new String(entry.array(), entry.arrayOffset() + entry.position(), length,
+                StandardCharsets.UTF_8);
+        entry.position(entry.position() + length);
+        return string;
+    }
+
+    /**
+     * The index of a details file: the IDs of the persons in it in ascending order, with the offset and length of
+     * the entry of each. Immutable, so that it can be replaced as a whole while being read from.
+     */
+    private static class Index {
+        private final Path filePath;
+        private final long[] ids;
+        private final long[] offsets;
+        private final int[] lengths;
+
+        private Index(Path filePath, long[] ids, long[] offsets, int[] lengths) {
+            this.filePath = filePath;
+            this.ids = ids;
+            this.offsets = offsets;
+            this.lengths = lengths;
+        }
+
+        /**
+         * Returns an index of the given entries, sorted by ID unless they already are.
+         */
+        static Index sortedById(Path filePath, long[] ids, long[] offsets, int[] lengths) {
+            boolean isSorted = true;
+            for (int i = 1; i < ids.length && isSorted; i++) {
+                isSorted = ids[i - 1] < ids[i];
+            }
+            if (isSorted) {
+                return new Index(filePath, ids, offsets, lengths);
+            }
+
+            Integer[] order = new Integer[ids.length];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, (first, second) -> Long.compare(ids[first], ids[second]));
+            long[] sortedIds = new long[ids.length];
+            long[] sortedOffsets = new long[ids.length];
+            int[] sortedLengths = new int[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedOffsets[i] = offsets[order[i]];
+                sortedLengths[i] = lengths[order[i]];
+            }
+            return new Index(filePath, sortedIds, sortedOffsets, sortedLengths);
+        }
+
+        /**
+         * Reads the index of the details file at {@code filePath}.
+         */
+        static Index read(Path filePath) throws IOException {
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < HEADER_SIZE + TRAILER_SIZE) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+                ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+                if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+
+                ByteBuffer trailer = readFully(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+                long indexOffset = trailer.getLong();
+                int count = trailer.getInt();
+                if (indexOffset < HEADER_SIZE || count < 0 || (long) count * INDEX_ENTRY_SIZE > Integer.MAX_VALUE
+                        || indexOffset + (long) count * INDEX_ENTRY_SIZE != size - TRAILER_SIZE) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+
+                ByteBuffer entries = readFully(channel, indexOffset, count * INDEX_ENTRY_SIZE);
+                long[] ids = new long[count];
+                long[] offsets = new long[count];
+                int[] lengths = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ids[i] = entries.getLong();
+                    offsets[i] = entries.getLong();
+                    lengths[i] = entries.getInt();
+                    if ((i > 0 && ids[i - 1] >= ids[i]) || offsets[i] < HEADER_SIZE || lengths[i] < 0
+                            || offsets[i] + lengths[i] > indexOffset) {
+                        throw new IOException(MESSAGE_CORRUPTED_FILE);
+                    }
+                }
+                return new Index(filePath, ids, offsets, lengths);
+            }
+        }
+
+        int find(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        FileChannel openChannel() throws IOException {
+            return FileChannel.open(filePath, StandardOpenOption.READ);
+        }
+
+        byte[] readEntry(long id) throws IOException {
+            try (FileChannel channel = openChannel()) {
+                return readEntry(channel, id);
+            }
+        }
+
+        /**
+         * Returns the encoded details of the person with ID {@code id}, read through {@code channel} over the file.
+         */
+        byte[] readEntry(FileChannel channel, long id) throws IOException {
+            int position = find(id);
+            if (position < 0) {
+                throw new IOException(String.format(MESSAGE_MISSING_DETAILS, id));
+            }
+            return readFully(channel, offsets[position], lengths[position]).array();
+        }
+
+        private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException(MESSAGE_CORRUPTED_FILE);
+                }
+            }
+            return buffer.flip();
+        }
+    }
+}
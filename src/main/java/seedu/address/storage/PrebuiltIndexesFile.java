@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.PrebuiltIndexes;
+
+/**
+ * A file of the {@link PrebuiltIndexes} of the persons in a data file, stamped with the generation of the data file
+ * they were built from, so that they are only read back over the persons of that same data file.
+ *
+ * The file starts with a header giving the format, the stamp and the number of persons, followed by the name index,
+ * the assignment graph and the checkup timeline as laid out in {@link PrebuiltIndexes}, and ends with the CRC-32
+ * checksum of everything before it. Strings are written as their length in bytes followed by their UTF-8 bytes, and
+ * checkup times as their epoch second and nanosecond in UTC.
+ */
+class PrebuiltIndexesFile {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Prebuilt indexes file is corrupted.";
+
+    static final int MAGIC = 0x4D424958; // "MBIX"
+    // 2: nurse tags are matched case-sensitively, so indexes of version 1 may record other tags as assignments
+    static final int VERSION = 2;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private PrebuiltIndexesFile() {}
+
+    /**
+     * Writes {@code indexes} to the file at {@code filePath}, stamped with {@code stamp}.
+     */
+    public static void write(PrebuiltIndexes indexes, String stamp, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(Files.newOutputStream(filePath), checksum), WRITE_BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeString(stamp, out);
+            out.writeInt(indexes.getPersonCount());
+
+            writeStrings(indexes.getTokens(), out);
+            writePositionLists(indexes.getTokenPersons(), out);
+            writeStrings(indexes.getGrams(), out);
+            writePositionLists(indexes.getGramTokens(), out);
+
+            writePositions(indexes.getPatients(), out);
+            for (String[] nurses : indexes.getPatientNurses()) {
+                writeStrings(nurses, out);
+            }
+
+            LocalDateTime[] checkupTimes = indexes.getCheckupTimes();
+            out.writeInt(checkupTimes.length);
+            for (LocalDateTime time : checkupTimes) {
+                out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(time.getNano());
+            }
+            writePositionLists(indexes.getCheckupPersons(), out);
+
+            out.flush();
+            // the checksum covers what was written so far, and is not part of itself
+            out.writeLong(checksum.getValue());
+        }
+    }
+
+    /**
+     * Reads the indexes in the file at {@code filePath}, if the file exists and is stamped with {@code stamp}.
+     *
+     * @throws IOException if the file cannot be read or is not an indexes file of a supported version.
+     */
+    public static Optional<PrebuiltIndexes> read(Path filePath, String stamp) throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        if (bytes.length < Long.BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes, 0, bytes.length - Long.BYTES);
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Long.BYTES);
+        if (ByteBuffer.wrap(bytes, bytes.length - Long.BYTES, Long.BYTES).getLong() != checksum.getValue()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+
+        try {
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("Not a prebuilt indexes file of version " + VERSION + ": " + filePath);
+            }
+            if (!readString(in).equals(stamp)) {
+                return Optional.empty();
+            }
+            int personCount = in.getInt();
+
+            String[] tokens = readStrings(in);
+            int[][] tokenPersons = readPositionLists(in, tokens.length);
+            String[] grams = readStrings(in);
+            int[][] gramTokens = readPositionLists(in, grams.length);
+
+            int[] patients = readPositions(in);
+            String[][] patientNurses = new String[patients.length][];
+            for (int i = 0; i < patients.length; i++) {
+                patientNurses[i] = readStrings(in);
+            }
+
+            LocalDateTime[] checkupTimes = new LocalDateTime[readCount(in, Long.BYTES + Integer.BYTES)];
+            for (int i = 0; i < checkupTimes.length; i++) {
+                checkupTimes[i] = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+            }
+            int[][] checkupPersons = readPositionLists(in, checkupTimes.length);
+
+            if (in.hasRemaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_FILE);
+            }
+            return Optional.of(new PrebuiltIndexes(personCount, tokens, tokenPersons, grams, gramTokens, patients,
+                    patientNurses, checkupTimes, checkupPersons));
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        }
+    }
+
+    private static void writeString(String string, DataOutputStream out) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(String[] strings, DataOutputStream out) throws IOException {
+        out.writeInt(strings.length);
+        for (String string : strings) {
+            writeString(string, out);
+        }
+    }
+
+    private static void writePositions(int[] positions, DataOutputStream out) throws IOException {
+        out.writeInt(positions.length);
+        for (int position : positions) {
+            out.writeInt(position);
+        }
+    }
+
+    private static void writePositionLists(int[][] positionLists, DataOutputStream out) throws IOException {
+        for (int[] positions : positionLists) {
+            writePositions(positions, out);
+        }
+    }
+
+    /**
+     * Reads a count of elements of {@code elementSize} bytes each, checking that the rest of the file can hold them.
+     */
+    private static int readCount(ByteBuffer in, int elementSize) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining() / elementSize) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer in) throws IOException {
+        int length = readCount(in, 1);
+        String string = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return string;
+    }
+
+    private static String[] readStrings(ByteBuffer in) throws IOException {
+        String[] strings = new String[readCount(in, Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        return strings;
+    }
+
+    private static int[] readPositions(ByteBuffer in) throws IOException {
+        int[] positions = new int[readCount(in, Integer.BYTES)];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = in.getInt();
+        }
+        return positions;
+    }
+
+    private static int[][] readPositionLists(ByteBuffer in, int count) throws IOException {
+        int[][] positionLists = new int[count][];
+        for (int i = 0; i < count; i++) {
+            positionLists[i] = readPositions(in);
+        }
+        return positionLists;
+    }
+}
@@ -0,0 +1,367 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as segment files, each holding the persons of a fixed range of IDs,
+ * listed by a manifest.
+ *
+ * The manifest (see {@link JsonAdaptedSegmentManifest}) and the segments sit in a directory of their own. Segment
+ * {@code i} holds the persons with IDs from {@code i * segmentSize + 1} to {@code (i + 1) * segmentSize}, in the order
+ * of the address book, as a compact json address book. Saving compares the address book with the persons last
+ * written, by ID and by reference (persons are immutable), and writes new files only for the segments with an added,
+ * edited or removed person, so its cost follows the number of segments changed rather than the size of the address
+ * book. The new files are named after a new generation, so the files listed by the current manifest are never
+ * overwritten; a new manifest is then moved over the current one and the files it no longer lists are deleted.
+ * An interrupted save therefore leaves the previous save readable.
+ *
+ * Persons are read back ordered by segment, which is the order of the address book as long as persons are kept in
+ * the order their IDs were assigned in, as the model does.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SEGMENT_SIZE = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+    private final int segmentSize;
+
+    // The persons last written to the manifest at persistedFilePath keyed by ID, with the manifest and the number of
+    // persons in each of its segments.
+    private Path persistedFilePath;
+    private Map<Long, Person> persistedPersons = new HashMap<>();
+    private JsonAdaptedSegmentManifest persistedManifest;
+    private int[] persistedSegmentCounts = new int[0];
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} with the manifest at {@code filePath} and segments holding
+     * {@code segmentSize} IDs each.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentSize) {
+        assert segmentSize > 0;
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the path of the manifest kept in place of the json data file at {@code jsonFilePath}, i.e. in a
+     * directory named after the json data file with its {@code .json} extension, if any, replaced by
+     * {@value #DIRECTORY_EXTENSION}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String path = jsonFilePath.toString();
+        String basePath = path.endsWith(".json") ? path.substring(0, path.length() - ".json".length()) : path;
+        return Paths.get(basePath + DIRECTORY_EXTENSION, MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of the file of segment {@code index} written in {@code generation}, next to the manifest at
+     * {@code manifestFilePath}.
+     */
+    static Path getSegmentFilePath(Path manifestFilePath, int index, long generation) {
+        return manifestFilePath.resolveSibling(SEGMENT_FILE_PREFIX + index + "-" + generation + SEGMENT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonAdaptedSegmentManifest> manifest =
+                JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        boolean isInPlace = true;
+        try {
+            manifest.get().check();
+            for (int i = 0; i < manifest.get().getSegmentCount(); i++) {
+                long generation = manifest.get().getSegmentGeneration(i);
+                if (generation > 0) {
+                    Path segmentFilePath = getSegmentFilePath(filePath, i, generation);
+                    isInPlace &= readSegment(segmentFilePath, i, manifest.get().getSegmentSize(), addressBook);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from segment of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        // persons that are not where this storage would write them are only written back by a full save
+        if (isInPlace && manifest.get().getSegmentSize() == segmentSize) {
+            remember(filePath, addressBook, manifest.get());
+        } else {
+            persistedFilePath = null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Adds the persons of the segment file at {@code segmentFilePath} to {@code addressBook}.
+     *
+     * @return true if every person kept its ID and has an ID in the range of segment {@code index}.
+     * @throws IllegalValueException if a person is invalid or already in {@code addressBook}.
+     */
+    private static boolean readSegment(Path segmentFilePath, int index, int segmentSize, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        AddressBook segment;
+        try (JsonParser parser = JsonUtil.createParser(segmentFilePath)) {
+            segment = JsonSerializableAddressBook.readFrom(parser, person -> {});
+        }
+
+        boolean isInPlace = true;
+        for (Person person : segment.getPersonList()) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            Person storedPerson = addressBook.addPerson(person);
+            isInPlace &= storedPerson.getId() == person.getId() && segmentOf(person.getId(), segmentSize) == index;
+        }
+        return isInPlace;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Long, Person> personsById = mapById(persons);
+        if (personsById == null) {
+            // segments are found by ID, so give every person a unique one as the model would
+            persons = new AddressBook(addressBook).getPersonList();
+            personsById = mapById(persons);
+        }
+
+        boolean isIncremental = filePath.equals(persistedFilePath);
+        int[] segmentCounts = new int[getSegmentCount(persons)];
+        BitSet dirtySegments = new BitSet();
+        for (Person person : persons) {
+            int segment = segmentOf(person.getId(), segmentSize);
+            segmentCounts[segment]++;
+            if (!isIncremental || persistedPersons.get(person.getId()) != person) {
+                dirtySegments.set(segment);
+            }
+        }
+        if (!isIncremental) {
+            dirtySegments.set(0, segmentCounts.length);
+        } else {
+            // with no person added or edited in a segment, a different count means a person was removed from it
+            for (int i = 0; i < Math.max(segmentCounts.length, persistedSegmentCounts.length); i++) {
+                if (countAt(segmentCounts, i) != countAt(persistedSegmentCounts, i)) {
+                    dirtySegments.set(i);
+                }
+            }
+            if (dirtySegments.isEmpty()) {
+                return;
+            }
+        }
+
+        JsonAdaptedSegmentManifest previousManifest = isIncremental ? persistedManifest : readManifestIfValid(filePath);
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+        List<Long> segmentGenerations = new ArrayList<>();
+        for (int i = 0; i < segmentCounts.length; i++) {
+            if (!dirtySegments.get(i)) {
+                segmentGenerations.add(previousManifest.getSegmentGeneration(i));
+            } else {
+                segmentGenerations.add(segmentCounts[i] > 0 ? generation : 0L);
+            }
+        }
+        JsonAdaptedSegmentManifest manifest =
+                new JsonAdaptedSegmentManifest(segmentSize, generation, segmentGenerations);
+
+        persistedFilePath = null;
+        FileUtil.createParentDirsOfFile(filePath);
+        writeSegments(persons, dirtySegments, segmentCounts, filePath, generation);
+        FileUtil.writeToFileAtomically(filePath, JsonUtil.toCompactJsonString(manifest));
+        deleteUnlistedSegments(manifest, isIncremental ? previousManifest : null, filePath);
+
+        persistedFilePath = filePath;
+        persistedPersons = personsById;
+        persistedManifest = manifest;
+        persistedSegmentCounts = segmentCounts;
+    }
+
+    /**
+     * Writes the persons of each of {@code dirtySegments} that holds any to a segment file of {@code generation}.
+     */
+    private void writeSegments(List<Person> persons, BitSet dirtySegments, int[] segmentCounts, Path filePath,
+                               long generation) throws IOException {
+        Map<Integer, List<Person>> dirtySegmentPersons = new HashMap<>();
+        for (Person person : persons) {
+            int segment = segmentOf(person.getId(), segmentSize);
+            if (dirtySegments.get(segment)) {
+                dirtySegmentPersons.computeIfAbsent(segment, unused -> new ArrayList<>(segmentCounts[segment]))
+                        .add(person);
+            }
+        }
+
+        for (Map.Entry<Integer, List<Person>> segment : dirtySegmentPersons.entrySet()) {
+            JsonUtil.writeJsonFile(getSegmentFilePath(filePath, segment.getKey(), generation), true,
+                    generator -> JsonSerializableAddressBook.writeTo(segment.getValue(), generator));
+        }
+    }
+
+    /**
+     * Deletes the segment files that {@code manifest} does not list. Only the files listed by
+     * {@code previousManifest} are considered if it is given, and every segment file in the directory otherwise.
+     * Failing to delete a file is logged rather than thrown, as the save is complete by then.
+     */
+    private static void deleteUnlistedSegments(JsonAdaptedSegmentManifest manifest,
+                                               JsonAdaptedSegmentManifest previousManifest, Path filePath) {
+        Set<Path> listedFileNames = new HashSet<>();
+        for (int i = 0; i < manifest.getSegmentCount(); i++) {
+            if (manifest.getSegmentGeneration(i) > 0) {
+                listedFileNames.add(getSegmentFilePath(filePath, i, manifest.getSegmentGeneration(i)).getFileName());
+            }
+        }
+
+        List<Path> candidateFilePaths = new ArrayList<>();
+        try {
+            if (previousManifest != null) {
+                for (int i = 0; i < previousManifest.getSegmentCount(); i++) {
+                    long generation = previousManifest.getSegmentGeneration(i);
+                    if (generation > 0) {
+                        candidateFilePaths.add(getSegmentFilePath(filePath, i, generation));
+                    }
+                }
+            } else {
+                try (var files = Files.list(filePath.toAbsolutePath().getParent())) {
+                    files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_FILE_PREFIX))
+                            .forEach(candidateFilePaths::add);
+                }
+            }
+
+            for (Path candidateFilePath : candidateFilePaths) {
+                if (!listedFileNames.contains(candidateFilePath.getFileName())) {
+                    Files.deleteIfExists(candidateFilePath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error deleting old segments of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or null if there is none or it cannot be read.
+     */
+    private static JsonAdaptedSegmentManifest readManifestIfValid(Path filePath) {
+        try {
+            JsonAdaptedSegmentManifest manifest =
+                    JsonUtil.readJsonFile(filePath, JsonAdaptedSegmentManifest.class).orElse(null);
+            if (manifest != null) {
+                manifest.check();
+            }
+            return manifest;
+        } catch (DataLoadingException | IllegalValueException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remembers the persons of {@code addressBook} as those last written to the manifest at {@code filePath}.
+     */
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook, JsonAdaptedSegmentManifest manifest) {
+        List<Person> persons = addressBook.getPersonList();
+        persistedPersons = mapById(persons);
+        persistedSegmentCounts = new int[getSegmentCount(persons)];
+        for (Person person : persons) {
+            persistedSegmentCounts[segmentOf(person.getId(), segmentSize)]++;
+        }
+        persistedManifest = manifest;
+        persistedFilePath = filePath;
+    }
+
+    /**
+     * Returns {@code persons} keyed by ID, or null if a person has no ID or shares its ID with another.
+     */
+    private static Map<Long, Person> mapById(List<Person> persons) {
+        Map<Long, Person> personsById = new HashMap<>();
+        for (Person person : persons) {
+            if (person.getId() == Person.UNASSIGNED_ID || personsById.put(person.getId(), person) != null) {
+                return null;
+            }
+        }
+        return personsById;
+    }
+
+    private int getSegmentCount(List<Person> persons) {
+        long maxId = Person.UNASSIGNED_ID;
+        for (Person person : persons) {
+            maxId = Math.max(maxId, person.getId());
+        }
+        return maxId == Person.UNASSIGNED_ID ? 0 : segmentOf(maxId, segmentSize) + 1;
+    }
+
+    private static int segmentOf(long id, int segmentSize) {
+        return (int) ((id - 1) / segmentSize);
+    }
+
+    private static int countAt(int[] counts, int index) {
+        return index < counts.length ? counts[index] : 0;
+    }
+}
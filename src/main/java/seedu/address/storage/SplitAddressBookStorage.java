@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+
+/**
+ * A class to access AddressBook data stored as a persons file holding every field but the {@link PersonDetails}
+ * (next of kin and medical history), and a details file holding those by person ID, listed by a manifest.
+ *
+ * The manifest (see {@link JsonAdaptedSplitManifest}) and the files sit in a directory of their own. The persons
+ * file is a compact json address book, read and written through a {@link JsonAddressBookStorage}, with the details
+ * of every person left empty. The details file is a {@link PersonDetailsFile}. Persons are read back with their
+ * details left in the details file, to be loaded when the person is viewed or edited, so that the person list and
+ * searches only go through the fields they need.
+ *
+ * Each save writes both files under a new generation, moves a new manifest over the current one and deletes the
+ * files of other generations, so an interrupted save leaves the previous save readable. The details of persons read
+ * by this storage that were not loaded since are copied from the current details file as they are. The persons read
+ * by this storage then load their details from the new details file.
+ */
+public class SplitAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".split";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_MISSING_DETAILS = "Details file has no details of person with ID %1$d.";
+
+    private static final Logger logger = LogsCenter.getLogger(SplitAddressBookStorage.class);
+    private static final String PERSONS_FILE_PREFIX = "persons-";
+    private static final String PERSONS_FILE_EXTENSION = ".json";
+    private static final String DETAILS_FILE_PREFIX = "details-";
+    private static final String DETAILS_FILE_EXTENSION = ".bin";
+
+    private final Path filePath;
+
+    // The details file that the persons read from the manifest at filePath load their details from.
+    private PersonDetailsFile detailsFile;
+
+    public SplitAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the manifest kept in place of the json data file at {@code jsonFilePath}, i.e. in a
+     * directory named after the json data file with its {@code .json} extension, if any, replaced by
+     * {@value #DIRECTORY_EXTENSION}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String path = jsonFilePath.toString();
+        String basePath = path.endsWith(".json") ? path.substring(0, path.length() - ".json".length()) : path;
+        return Paths.get(basePath + DIRECTORY_EXTENSION, MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of the persons file written in {@code generation}, next to the manifest at
+     * {@code manifestFilePath}.
+     */
+    static Path getPersonsFilePath(Path manifestFilePath, long generation) {
+        return manifestFilePath.resolveSibling(PERSONS_FILE_PREFIX + generation + PERSONS_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the details file written in {@code generation}, next to the manifest at
+     * {@code manifestFilePath}.
+     */
+    static Path getDetailsFilePath(Path manifestFilePath, long generation) {
+        return manifestFilePath.resolveSibling(DETAILS_FILE_PREFIX + generation + DETAILS_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonAdaptedSplitManifest> manifest = JsonUtil.readJsonFile(filePath, JsonAdaptedSplitManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().check();
+            long generation = manifest.get().getGeneration();
+            Path personsFilePath = getPersonsFilePath(filePath, generation);
+            ReadOnlyAddressBook persons = new JsonAddressBookStorage(personsFilePath).readAddressBook()
+                    .orElseThrow(() -> new IOException("Missing persons file " + personsFilePath));
+            PersonDetailsFile readDetailsFile = PersonDetailsFile.open(getDetailsFilePath(filePath, generation));
+
+            PersonDetailsFile boundDetailsFile = readDetailsFile;
+            if (filePath.equals(this.filePath)) {
+                // persons read before keep loading their details through the same file
+                if (detailsFile == null) {
+                    detailsFile = readDetailsFile;
+                } else {
+                    detailsFile.replaceWith(readDetailsFile);
+                }
+                boundDetailsFile = detailsFile;
+            }
+
+            List<Person> lazyPersons = new ArrayList<>(persons.getPersonList().size());
+            for (Person person : persons.getPersonList()) {
+                if (!boundDetailsFile.hasDetails(person.getId())) {
+                    throw new IllegalValueException(String.format(MESSAGE_MISSING_DETAILS, person.getId()));
+                }
+                lazyPersons.add(person.withLazyDetails(boundDetailsFile));
+            }
+            // the persons were checked for duplicates as they were read
+            ObservableList<Person> personList =
+                    FXCollections.unmodifiableObservableList(FXCollections.observableList(lazyPersons));
+            // the details are not indexed, so the indexes of the persons file hold for the persons with details
+            return Optional.of(persons.getPrebuiltIndexes()
+                    .<ReadOnlyAddressBook>map(indexes -> new IndexedAddressBook(personList, indexes))
+                    .orElse(() -> personList));
+        } catch (IOException e) {
+            logger.warning("Error reading from split data of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        if (!hasDistinctIds(persons)) {
+            // details are found by ID, so give every person a unique one as the model would
+            persons = new AddressBook(addressBook).getPersonList();
+        }
+
+        JsonAdaptedSplitManifest previousManifest = readManifestIfValid(filePath);
+        long generation = previousManifest == null ? 1 : previousManifest.getGeneration() + 1;
+
+        FileUtil.createParentDirsOfFile(filePath);
+        PersonDetailsFile writtenDetailsFile =
+                PersonDetailsFile.write(persons, getDetailsFilePath(filePath, generation), detailsFile);
+        List<Person> personsWithoutDetails = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            personsWithoutDetails.add(person.withDetails(PersonDetails.EMPTY));
+        }
+        ObservableList<Person> personList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(personsWithoutDetails));
+        ReadOnlyAddressBook personsFileData = addressBook.getPrebuiltIndexes()
+                .filter(indexes -> indexes.getPersonCount() == personList.size())
+                .<ReadOnlyAddressBook>map(indexes -> new IndexedAddressBook(personList, indexes))
+                .orElse(() -> personList);
+        new JsonAddressBookStorage(getPersonsFilePath(filePath, generation), true)
+                .saveAddressBook(personsFileData);
+        FileUtil.writeToFileAtomically(filePath,
+                JsonUtil.toCompactJsonString(new JsonAdaptedSplitManifest(generation)));
+
+        if (filePath.equals(this.filePath) && detailsFile != null) {
+            detailsFile.replaceWith(writtenDetailsFile);
+        }
+        deleteOtherGenerations(filePath, generation);
+    }
+
+    private static boolean hasDistinctIds(List<Person> persons) {
+        Set<Long> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (person.getId() == Person.UNASSIGNED_ID || !ids.add(person.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deletes the persons and details files next to the manifest at {@code filePath} that were not written in
+     * {@code generation}. Failing to delete a file is logged rather than thrown, as the save is complete by then.
+     */
+    private static void deleteOtherGenerations(Path filePath, long generation) {
+        String currentPersonsFileName = getPersonsFilePath(filePath, generation).getFileName().toString();
+        String currentDetailsFileName = getDetailsFilePath(filePath, generation).getFileName().toString();
+        try (var files = Files.list(filePath.toAbsolutePath().getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                // the checksum and indexes files of the persons file go with it
+                boolean isOtherPersonsFile = fileName.startsWith(PERSONS_FILE_PREFIX)
+                        && !fileName.startsWith(currentPersonsFileName);
+                boolean isOtherDetailsFile = fileName.startsWith(DETAILS_FILE_PREFIX)
+                        && !fileName.equals(currentDetailsFileName);
+                if (isOtherPersonsFile || isOtherDetailsFile) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error deleting old files of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the manifest at {@code filePath}, or null if there is none or it cannot be read.
+     */
+    private static JsonAdaptedSplitManifest readManifestIfValid(Path filePath) {
+        try {
+            JsonAdaptedSplitManifest manifest =
+                    JsonUtil.readJsonFile(filePath, JsonAdaptedSplitManifest.class).orElse(null);
+            if (manifest != null) {
+                manifest.check();
+            }
+            return manifest;
+        } catch (DataLoadingException | IllegalValueException e) {
+            return null;
+        }
+    }
+}
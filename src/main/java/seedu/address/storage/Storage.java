@@ -29,4 +29,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Throws the error of an earlier address book save that failed after {@code saveAddressBook} had returned,
+     * e.g. one written in the background. Each such error is thrown once.
+     */
+    void checkAddressBookSaved() throws IOException;
+
+    /**
+     * Waits until every address book save requested so far has been written.
+     *
+     * @throws IOException if an earlier save failed, as in {@link #checkAddressBookSaved()}.
+     */
+    void flushAddressBook() throws IOException;
+
 }
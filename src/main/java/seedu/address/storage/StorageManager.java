@@ -3,16 +3,30 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * In write-behind mode, address books are saved by a background thread: saving takes a snapshot of the persons
+ * and returns at once. Snapshots saved while an earlier one is being written are coalesced, so only the newest of
+ * them is written next. A background save that fails, with an I/O error or any other exception, is reported by the
+ * next call to
+ * {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, {@link #checkAddressBookSaved()} or
+ * {@link #flushAddressBook()}.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +34,34 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // null unless in write-behind mode; the fields below are guarded by this
+    private final ExecutorService saver;
+    private PendingSave pendingSave;
+    private IOException saveError;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * saving address books in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saver = isWriteBehind ? Executors.newSingleThreadExecutor(StorageManager::createSaverThread) : null;
+    }
+
+    private static Thread createSaverThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        // a save still pending at exit is written by flushAddressBook(), which MainApp calls when stopping
+        thread.setDaemon(true);
+        return thread;
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +107,103 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saver == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // persons are immutable, so a copy of the list is a consistent snapshot for the saver thread
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        // so are the indexes, which are passed on only if the address book has them already, as in the foreground
+        ReadOnlyAddressBook snapshot = addressBook.getPrebuiltIndexes()
+                .<ReadOnlyAddressBook>map(indexes -> new IndexedAddressBook(persons, indexes))
+                .orElse(() -> persons);
+        synchronized (this) {
+            boolean isScheduled = pendingSave != null;
+            pendingSave = new PendingSave(snapshot, filePath);
+            if (!isScheduled) {
+                saver.execute(this::writePendingSave);
+            }
+            // an earlier save that failed is reported only once this one is queued, so that it is not lost too
+            checkAddressBookSaved();
+        }
+    }
+
+    /**
+     * Saves the indexes of {@code addressBook} on the calling thread. In write-behind mode, call
+     * {@link #flushAddressBook()} first, as the indexes are saved only for the persons last written.
+     */
+    @Override
+    public void saveAddressBookIndexes(ReadOnlyAddressBook addressBook) {
+        logger.fine("Attempting to write the indexes of the data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookIndexes(addressBook);
+    }
+
+    /**
+     * Writes the newest snapshot saved in write-behind mode, remembering the error if it fails.
+     */
+    private void writePendingSave() {
+        PendingSave save;
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = null;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file in the background: " + save.filePath);
+            addressBookStorage.saveAddressBook(save.addressBook, save.filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background " + StringUtil.getDetails(e));
+            synchronized (this) {
+                saveError = e;
+            }
+        } catch (RuntimeException e) {
+            // reported like an I/O error, as otherwise the executor would drop it and the save would be lost unseen
+            logger.warning("Failed to save address book in the background " + StringUtil.getDetails(e));
+            synchronized (this) {
+                saveError = new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void checkAddressBookSaved() throws IOException {
+        IOException error = saveError;
+        saveError = null;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saver != null) {
+            try {
+                // the saver runs tasks in order, so this returns once every save scheduled before has been written
+                saver.submit(() -> { }).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the address book to be saved", e);
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+        checkAddressBookSaved();
+    }
+
+    /**
+     * An address book snapshot waiting to be written by the saver thread.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingSave(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
     }
 
 }
@@ -39,10 +39,28 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_scriptPath_success() {
+        parametersStub.namedParameters.put("run", "ward3.txt");
+        parametersStub.namedParameters.put("stop-on-error", "true");
+        expected.setScriptPath(Paths.get("ward3.txt"));
+        expected.setStopOnError(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        parametersStub.namedParameters.put("stop-on-error", "yes");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", isStopOnError=" + appParameters.isStopOnError() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +84,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different stop on error -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setStopOnError(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
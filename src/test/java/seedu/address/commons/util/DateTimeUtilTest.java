@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeUtilTest {
+
+    @Test
+    public void isDateFormat() {
+        // null
+        assertThrows(NullPointerException.class, () -> DateTimeUtil.isDateFormat(null));
+
+        // wrong shape
+        assertFalse(DateTimeUtil.isDateFormat(""));
+        assertFalse(DateTimeUtil.isDateFormat("1/01/2030"));
+        assertFalse(DateTimeUtil.isDateFormat("01-01-2030"));
+        assertFalse(DateTimeUtil.isDateFormat("01/01/20a0"));
+        assertFalse(DateTimeUtil.isDateFormat("01/01/20300"));
+        assertFalse(DateTimeUtil.isDateFormat("00/01/2030"));
+        assertFalse(DateTimeUtil.isDateFormat("32/01/2030"));
+        assertFalse(DateTimeUtil.isDateFormat("01/13/2030"));
+
+        // right shape, whether or not the day exists
+        assertTrue(DateTimeUtil.isDateFormat("01/01/2030"));
+        assertTrue(DateTimeUtil.isDateFormat("31/02/2030"));
+    }
+
+    @Test
+    public void isValidDate() {
+        assertFalse(DateTimeUtil.isValidDate("31/02/2030"));
+        assertFalse(DateTimeUtil.isValidDate("31/04/2030"));
+        assertFalse(DateTimeUtil.isValidDate("29/02/2100")); // not a leap year
+        assertFalse(DateTimeUtil.isValidDate("01/01/0000"));
+
+        assertTrue(DateTimeUtil.isValidDate("29/02/2000")); // leap year
+        assertTrue(DateTimeUtil.isValidDate("31/12/9999"));
+        assertTrue(DateTimeUtil.isValidDate("01/01/0001"));
+    }
+
+    @Test
+    public void parseDate() {
+        assertEquals(LocalDate.of(2030, 3, 9), DateTimeUtil.parseDate("09/03/2030"));
+        assertThrows(IllegalArgumentException.class, DateTimeUtil.MESSAGE_INVALID_DATE, () ->
+                DateTimeUtil.parseDate("30/02/2030"));
+    }
+
+    @Test
+    public void parseTime() {
+        assertEquals(LocalTime.of(9, 5), DateTimeUtil.parseTime("09:05"));
+        assertEquals(LocalTime.of(23, 59), DateTimeUtil.parseTime("23:59"));
+        assertFalse(DateTimeUtil.isValidTime("24:00"));
+        assertFalse(DateTimeUtil.isValidTime("12:60"));
+        assertFalse(DateTimeUtil.isValidTime("1205"));
+        assertFalse(DateTimeUtil.isValidTime("12.05"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeUtil.parseTime("9:05"));
+    }
+
+    @Test
+    public void parseInputTime() {
+        assertEquals(LocalTime.of(9, 5), DateTimeUtil.parseInputTime("0905"));
+        assertFalse(DateTimeUtil.isValidInputTime("2400"));
+        assertFalse(DateTimeUtil.isValidInputTime("09:05"));
+        assertFalse(DateTimeUtil.isValidInputTime("905"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeUtil.parseInputTime("12a0"));
+    }
+
+    @Test
+    public void parseDateTime() {
+        assertEquals(LocalDateTime.of(2030, 3, 9, 14, 30), DateTimeUtil.parseDateTime("09/03/2030 14:30"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeUtil.parseDateTime("09/03/2030 1430"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeUtil.parseDateTime("09/03/2030T14:30"));
+        assertThrows(IllegalArgumentException.class, () -> DateTimeUtil.parseDateTime("31/09/2030 14:30"));
+    }
+
+    @Test
+    public void format_sameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+        LocalDateTime[] dateTimes = {LocalDateTime.of(2030, 3, 9, 14, 30, 59), LocalDateTime.of(1, 1, 1, 0, 0),
+            LocalDateTime.of(9999, 12, 31, 23, 59), LocalDateTime.of(10000, 1, 1, 9, 0)};
+        for (LocalDateTime dateTime : dateTimes) {
+            assertEquals(dateTime.format(formatter), DateTimeUtil.formatDateTime(dateTime));
+        }
+        assertEquals("05/01/2030", DateTimeUtil.formatDate(LocalDate.of(2030, 1, 5)));
+        assertEquals("07:08", DateTimeUtil.formatTime(LocalTime.of(7, 8, 9)));
+        assertEquals(dateTimes[0].withSecond(0), DateTimeUtil.parseDateTime(DateTimeUtil.formatDateTime(dateTimes[0])));
+
+        StringBuilder builder = new StringBuilder("on ");
+        DateTimeUtil.appendTime(DateTimeUtil.appendDate(builder, LocalDate.of(2030, 1, 5)).append(" at "),
+                LocalTime.of(7, 8));
+        assertEquals("on 05/01/2030 at 07:08", builder.toString());
+    }
+}
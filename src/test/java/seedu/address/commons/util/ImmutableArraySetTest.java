@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ImmutableArraySetTest {
+
+    /** Equal only to itself, with a hash code shared by every instance. */
+    private static class Colliding {
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ImmutableArraySet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> ImmutableArraySet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_empty_returnsSharedEmptySet() {
+        assertSame(ImmutableArraySet.of(), ImmutableArraySet.copyOf(new HashSet<String>()));
+        assertSame(ImmutableArraySet.of(), ImmutableArraySet.copyOf(Collections.emptySet()));
+        assertEquals(Collections.emptySet(), ImmutableArraySet.of());
+    }
+
+    @Test
+    public void copyOf_immutableArraySet_returnsSameSet() {
+        Set<String> set = ImmutableArraySet.copyOf(List.of("a", "b"));
+        assertSame(set, ImmutableArraySet.copyOf(set));
+    }
+
+    @Test
+    public void copyOf_duplicates_keepsDistinctElements() {
+        Set<String> set = ImmutableArraySet.copyOf(Arrays.asList("b", "a", "b", "c", "a"));
+        assertEquals(3, set.size());
+        assertEquals(Set.of("a", "b", "c"), set);
+        assertEquals(Set.of("a", "b", "c").hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void contains_collidingHashCodes_comparesByEquals() {
+        Colliding first = new Colliding();
+        Colliding second = new Colliding();
+        Colliding third = new Colliding();
+        Set<Colliding> set = ImmutableArraySet.copyOf(Arrays.asList(first, second, first));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(first));
+        assertTrue(set.contains(second));
+        assertFalse(set.contains(third));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void contains_manyElements_findsEveryElement() {
+        Set<Integer> expected = new HashSet<>();
+        for (int i = -50; i < 50; i++) {
+            expected.add(i * 31);
+        }
+        Set<Integer> set = ImmutableArraySet.copyOf(expected);
+        assertEquals(expected, set);
+        for (Integer element : expected) {
+            assertTrue(set.contains(element));
+        }
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = ImmutableArraySet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(List.of("b")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of("b")));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> false));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            set.iterator().next();
+            set.iterator().remove();
+        });
+    }
+}
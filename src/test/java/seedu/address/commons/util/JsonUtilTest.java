@@ -1,11 +1,15 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
@@ -39,6 +43,22 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJsonFile_writerFails_keepsExistingFile(@TempDir Path testFolder) throws IOException {
+        Path filePath = testFolder.resolve("data.json");
+        JsonUtil.writeJsonFile(filePath, true, generator -> generator.writeString("old"));
+
+        assertThrows(IOException.class, () -> JsonUtil.writeJsonFile(filePath, true, generator -> {
+            generator.writeStartArray();
+            generator.writeString("new");
+            generator.flush();
+            throw new IOException("Disk full");
+        }));
+
+        assertEquals("\"old\"", FileUtil.readFromFile(filePath));
+        assertFalse(Files.exists(testFolder.resolve("data.json.tmp")));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
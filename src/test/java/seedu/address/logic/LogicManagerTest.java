@@ -16,7 +16,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,7 +27,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -36,6 +41,7 @@ import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -87,6 +93,98 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchanged_saveSkipped() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // the first command saves, as the address book may not have been saved yet
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        logicManager.execute(FindCommand.COMMAND_WORD + " amy");
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+
+        logicManager.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + BLOOD_TYPE_AMY + APPOINTMENT_AMY + NOK_DESC_AMY);
+        assertEquals(2, saveCount[0]);
+        assertEquals(2, logicManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_runScript_savesOnce() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lines.add(PersonUtil.getAddCommand(new PersonBuilder().withName("Patient " + (char) ('a' + i % 26)
+                    + (char) ('a' + i / 26)).withPhone(String.valueOf(90000000 + i)).build()));
+        }
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, lines);
+
+        logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+        assertEquals(50, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_throwsCommandExceptionAndSavesAgain() throws Exception {
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        boolean[] isBackgroundSaveFailed = {false};
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage) {
+            @Override
+            public void checkAddressBookSaved() throws IOException {
+                if (isBackgroundSaveFailed[0]) {
+                    isBackgroundSaveFailed[0] = false;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saveCount[0]);
+
+        // the failure is reported by the next command, even one that leaves the address book unchanged
+        isBackgroundSaveFailed[0] = true;
+        assertCommandException(ListCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saveCount[0]);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -46,6 +46,25 @@ public class FindPatientCommandTest {
                 result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_patientEditedAfterAssignment_patientsInListedOrder() throws CommandException {
+        Model model1 = new ModelManager();
+        Person nurse = new PersonBuilder().withName("john lee").withAppointment("Nurse").build();
+        Person zoe = new PersonBuilder().withName("zoe tan").withPhone("81110000").withAppointment("Patient")
+                .withTags("Nurse JOHN LEE").build();
+        Person alice = new PersonBuilder().withName("alice doe").withPhone("81110001").withAppointment("Patient")
+                .withTags("Nurse JOHN LEE").build();
+
+        model1.addPerson(nurse);
+        model1.addPerson(zoe);
+        model1.addPerson(alice);
+        model1.setPerson(zoe, new PersonBuilder(zoe).withEmail("zoe@example.com").build());
+
+        CommandResult result = new FindPatientCommand(Index.fromZeroBased(1)).execute(model1);
+        assertEquals(String.format(MESSAGE_PATIENT_FOUND, "JOHN LEE", "ALICE DOE, ZOE TAN"),
+                result.getFeedbackToUser());
+    }
+
     @Test
     public void execute_validIndexNoPatientAssigned_throwsCommandException() {
         Index validNurseIndex = Index.fromZeroBased(6);
@@ -5,6 +5,8 @@ import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -77,4 +79,16 @@ public class ListCommandTest {
         assertCommandSuccess(command, model,
                 ListCommand.MESSAGE_SUCCESS_CHECKUP, expectedModel);
     }
+
+    @Test
+    public void execute_filterByCheckupRange_showsOnlyCheckupsInRange() {
+        LocalDateTime from = LocalDateTime.of(2025, 12, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 12, 31, 23, 59);
+        ListCommand command = new ListCommand(from, to);
+        expectedModel.updateFilteredPersonListByCheckupsBetween(from, to);
+
+        assertCommandSuccess(command, model,
+                String.format(ListCommand.MESSAGE_SUCCESS_CHECKUP_RANGE, "01/12/2025 00:00", "31/12/2025 23:59"),
+                expectedModel);
+    }
 }
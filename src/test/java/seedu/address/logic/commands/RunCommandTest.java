@@ -0,0 +1,173 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    private static final String UNKNOWN_COMMAND = "frobnicate 1";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+
+    @Test
+    public void execute_script_runsEveryCommand() throws Exception {
+        Path scriptPath = writeScript("# onboard ward 3", "", PersonUtil.getAddCommand(AMY),
+                "   ", "  " + PersonUtil.getAddCommand(BOB) + "  ");
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, 2, scriptPath), result.getFeedbackToUser());
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(AMY);
+        expectedAddressBook.addPerson(BOB);
+        assertEquals(expectedAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_failingCommand_runsRest() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), UNKNOWN_COMMAND, PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 4, 4, scriptPath) + " "
+                + String.format(RunCommand.MESSAGE_FAILURES, 2) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 2, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, AddCommand.MESSAGE_DUPLICATE_PERSON);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_stopOnError_keepsChangesBeforeFailure() throws Exception {
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), "", UNKNOWN_COMMAND,
+                PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = new RunCommand(scriptPath, true).execute(model);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_STOPPED, 3, scriptPath, 2, 3) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 3, MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_unexpectedError_runsRest() throws Exception {
+        IllegalStateException error = new IllegalStateException("dummy unexpected error");
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                if (person.isSamePerson(AMY)) {
+                    throw error;
+                }
+                super.addPerson(person);
+            }
+        };
+        Path scriptPath = writeScript(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB));
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(failingModel);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_SUCCESS, 2, 2, scriptPath) + " "
+                + String.format(RunCommand.MESSAGE_FAILURES, 1) + "\n"
+                + String.format(RunCommand.MESSAGE_FAILED_LINE, 1,
+                        String.format(RunCommand.MESSAGE_UNEXPECTED_ERROR, error));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertFalse(failingModel.hasPerson(AMY));
+        assertTrue(failingModel.hasPerson(BOB));
+    }
+
+    @Test
+    public void execute_manyFailures_listsFirstFew() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_REPORTED_FAILURES + 2; i++) {
+            lines.add(UNKNOWN_COMMAND);
+        }
+        Path scriptPath = writeScript(lines.toArray(String[]::new));
+
+        String feedback = new RunCommand(scriptPath, false).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_FAILED_LINE,
+                RunCommand.MAX_REPORTED_FAILURES, MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(feedback.contains(String.format(RunCommand.MESSAGE_FAILED_LINE,
+                RunCommand.MAX_REPORTED_FAILURES + 1, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 2)));
+    }
+
+    @Test
+    public void execute_nestedRun_fails() throws Exception {
+        Path scriptPath = writeScript(RunCommand.COMMAND_WORD + " other.txt");
+
+        CommandResult result = new RunCommand(scriptPath, false).execute(model);
+
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(RunCommand.MESSAGE_FAILED_LINE, 1, RunCommand.MESSAGE_NESTED_RUN)));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(scriptPath, false), model,
+                String.format(RunCommand.MESSAGE_READ_ERROR, scriptPath, scriptPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("ward3.txt"), false);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("ward3.txt"), false)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // different script -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("ward4.txt"), false)));
+
+        // different stop on error -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("ward3.txt"), true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Path.of("ward3.txt"), true);
+        String expected = RunCommand.class.getCanonicalName() + "{scriptPath=ward3.txt, isStopOnError=true}";
+        assertEquals(expected, runCommand.toString());
+    }
+}
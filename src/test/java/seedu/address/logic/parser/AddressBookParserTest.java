@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,6 +25,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -117,6 +119,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("view 1") instanceof ViewCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("ward3.txt"), false),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " ward3.txt"));
+    }
+
     @Test
     public void parseCommand_assignDelete() throws Exception {
         assertTrue(parser.parseCommand(AssignDeleteCommand.COMMAND_WORD + " john lee 2")
@@ -3,6 +3,9 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
@@ -24,6 +27,28 @@ public class ListCommandParserTest {
         assertTrue(parser.parse("checkup").equals(new ListCommand(true)));
     }
 
+    @Test
+    public void parse_checkupRange_returnsListCommand() throws Exception {
+        assertTrue(parser.parse("checkups from/01/03/2030 to/31/03/2030").equals(new ListCommand(
+                LocalDateTime.of(2030, 3, 1, 0, 0), LocalDateTime.of(2030, 3, 31, 0, 0).with(LocalTime.MAX))));
+        assertTrue(parser.parse("CheckUps to/01/03/2030 1200 from/01/03/2030 0900").equals(new ListCommand(
+                LocalDateTime.of(2030, 3, 1, 9, 0), LocalDateTime.of(2030, 3, 1, 12, 0))));
+    }
+
+    @Test
+    public void parse_invalidCheckupRange_throwsParseException() {
+        assertThrows(ParseException.class, () -> parser.parse("checkups"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups from/01/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups to/01/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups x from/01/03/2030 to/02/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups from/2030-03-01 to/02/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups from/31/02/2030 to/02/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups from/01/03/2030 2500 to/02/03/2030"));
+        assertThrows(ParseException.class, () -> parser.parse("checkups from/02/03/2030 to/01/03/2030"));
+        assertThrows(ParseException.class, () ->
+                parser.parse("checkups from/01/03/2030 from/01/03/2030 to/02/03/2030"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertThrows(ParseException.class, () -> parser.parse("xyz"));
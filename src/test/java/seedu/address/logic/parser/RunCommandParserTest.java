@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.getErrorMessageForDuplicatePrefixes;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STOP_ON_ERROR;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_scriptPath_success() {
+        assertParseSuccess(parser, " ward3.txt", new RunCommand(Paths.get("ward3.txt"), false));
+        assertParseSuccess(parser, "  scripts/ward 3.txt  ", new RunCommand(Paths.get("scripts/ward 3.txt"), false));
+    }
+
+    @Test
+    public void parse_stopOnError_success() {
+        assertParseSuccess(parser, " ward3.txt " + PREFIX_STOP_ON_ERROR, new RunCommand(Paths.get("ward3.txt"), true));
+    }
+
+    @Test
+    public void parse_missingScriptPath_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_STOP_ON_ERROR, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_stopOnErrorWithValue_failure() {
+        assertParseFailure(parser, " ward3.txt " + PREFIX_STOP_ON_ERROR + "yes", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateStopOnError_failure() {
+        assertParseFailure(parser, " ward3.txt " + PREFIX_STOP_ON_ERROR + " " + PREFIX_STOP_ON_ERROR,
+                getErrorMessageForDuplicatePrefixes(PREFIX_STOP_ON_ERROR));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_failure() {
+        assertParseFailure(parser, " a\0b", String.format(RunCommandParser.MESSAGE_INVALID_SCRIPT_PATH, "a\0b"));
+    }
+}
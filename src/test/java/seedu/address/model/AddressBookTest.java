@@ -2,17 +2,23 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +84,78 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPatientsAssignedTo_patientAddedAndRemoved_tracksAssignment() {
+        Person patient = new PersonBuilder(CARL).withTags("Nurse " + BENSON.getName().fullName).build();
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(patient);
+        assertEquals(List.of(patient), addressBook.getPatientsAssignedTo(BENSON.getName()));
+        assertTrue(addressBook.hasPatientsAssignedTo(BENSON.getName()));
+
+        addressBook.removePerson(patient);
+        assertFalse(addressBook.hasPatientsAssignedTo(BENSON.getName()));
+    }
+
+    @Test
+    public void getPatientsAssignedTo_patientEditedAfterAssignment_inPersonsListOrder() {
+        String nurseTag = "Nurse " + BENSON.getName().fullName;
+        Person carl = new PersonBuilder(CARL).withTags(nurseTag).build();
+        Person daniel = new PersonBuilder(DANIEL).withTags(nurseTag).build();
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(carl);
+        addressBook.addPerson(daniel);
+        Person editedCarl = new PersonBuilder(carl).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(carl, editedCarl);
+
+        assertEquals(List.of(editedCarl, daniel), addressBook.getPatientsAssignedTo(BENSON.getName()));
+    }
+
+    @Test
+    public void getNursesAssignedTo_patientEdited_tracksAssignment() {
+        Person patient = new PersonBuilder(CARL).withTags("Nurse " + BENSON.getName().fullName).build();
+        addressBook.addPerson(patient);
+        Person unassignedPatient = new PersonBuilder(patient).withTags().build();
+        addressBook.setPerson(patient, unassignedPatient);
+
+        assertTrue(addressBook.getNursesAssignedTo(unassignedPatient).isEmpty());
+        assertFalse(addressBook.hasPatientsAssignedTo(BENSON.getName()));
+    }
+
+    @Test
+    public void getNursesAssignedTo_afterResetData_derivedFromTags() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Set.of("BensonMeier"), addressBook.getNursesAssignedTo(ALICE));
+    }
+
+    @Test
+    public void resetData_withPrebuiltIndexes_indexesRestored() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        PrebuiltIndexes indexes = PrebuiltIndexes.build(persons);
+        addressBook.resetData(new AddressBookStub(persons, indexes));
+
+        assertSame(indexes, addressBook.getPrebuiltIndexes().get());
+        assertEquals(Set.of("BensonMeier"), addressBook.getNursesAssignedTo(ALICE));
+        assertEquals(List.of(ALICE), addressBook.findPersonsByName(List.of("alice")));
+    }
+
+    @Test
+    public void getPrebuiltIndexes_personsChangedSinceReset_empty() {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        addressBook.resetData(new AddressBookStub(persons, PrebuiltIndexes.build(persons)));
+        assertTrue(addressBook.getPrebuiltIndexes().isPresent());
+
+        addressBook.removePerson(ALICE);
+        assertFalse(addressBook.getPrebuiltIndexes().isPresent());
+    }
+
+    @Test
+    public void getPrebuiltIndexes_resetWithoutIndexes_empty() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(addressBook.getPrebuiltIndexes().isPresent());
+        assertEquals(List.of(ALICE), addressBook.findPersonsByName(List.of("alice")));
+        assertEquals(Set.of("BensonMeier"), addressBook.getNursesAssignedTo(ALICE));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -94,15 +172,26 @@ public class AddressBookTest {
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
         private final ObservableList<Person> persons = FXCollections.observableArrayList();
+        private final PrebuiltIndexes indexes;
 
         AddressBookStub(Collection<Person> persons) {
+            this(persons, null);
+        }
+
+        AddressBookStub(Collection<Person> persons, PrebuiltIndexes indexes) {
             this.persons.setAll(persons);
+            this.indexes = indexes;
         }
 
         @Override
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public Optional<PrebuiltIndexes> getPrebuiltIndexes() {
+            return Optional.ofNullable(indexes);
+        }
     }
 
 }
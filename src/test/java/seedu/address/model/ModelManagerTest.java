@@ -7,16 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Appointment;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonHasAppointmentPredicate;
+import seedu.address.model.person.PersonHasCheckupPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +101,113 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonsWithCheckupsBetween_personsMutated_timelineUpdated() {
+        LocalDateTime from = LocalDateTime.of(2030, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 3, 31, 23, 59);
+        Person carl = new PersonBuilder(CARL).withCheckups("20/03/2030 10:00").buildWithCheckups();
+        modelManager.addPerson(carl);
+        assertEquals(List.of(carl), modelManager.getPersonsWithCheckupsBetween(from, to));
+
+        Person rescheduledCarl = new PersonBuilder(CARL).withCheckups("20/04/2030 10:00").buildWithCheckups();
+        modelManager.setPerson(carl, rescheduledCarl);
+        assertTrue(modelManager.getPersonsWithCheckupsBetween(from, to).isEmpty());
+
+        modelManager.deletePerson(rescheduledCarl);
+        assertTrue(modelManager.getPersonsWithCheckupsBetween(from, to.plusMonths(1)).isEmpty());
+    }
+
+    @Test
+    public void updateFilteredPersonListByCheckupsBetween_showsOnlyPersonsInRange() {
+        Person carl = new PersonBuilder(CARL).withCheckups("20/03/2030 10:00").buildWithCheckups();
+        Person daniel = new PersonBuilder(DANIEL).withCheckups("05/03/2030 09:00").buildWithCheckups();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(carl).withPerson(daniel)
+                .withPerson(BENSON).build());
+        modelManager.updateFilteredPersonListByCheckupsBetween(LocalDateTime.of(2030, 3, 1, 0, 0),
+                LocalDateTime.of(2030, 3, 31, 23, 59));
+        assertEquals(List.of(daniel, carl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_checkupRangeDisplayed_displayedListUpdated() {
+        Person carl = new PersonBuilder(CARL).withCheckups("20/03/2030 10:00").buildWithCheckups();
+        Person daniel = new PersonBuilder(DANIEL).withCheckups("05/03/2030 09:00").buildWithCheckups();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(carl).withPerson(daniel).build());
+        modelManager.updateFilteredPersonListByCheckupsBetween(LocalDateTime.of(2030, 3, 1, 0, 0),
+                LocalDateTime.of(2030, 3, 31, 23, 59));
+
+        Person rescheduledCarl = new PersonBuilder(CARL).withCheckups("02/03/2030 10:00").buildWithCheckups();
+        modelManager.setPerson(carl, rescheduledCarl);
+        assertEquals(List.of(rescheduledCarl, daniel), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(daniel);
+        assertEquals(List.of(rescheduledCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_appointmentPredicate_showsPartitionSortedByName() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        Appointment nurse = new Appointment("Nurse");
+        modelManager.updateFilteredPersonList(new PersonHasAppointmentPredicate(nurse));
+
+        List<Person> expectedNurses = getTypicalPersons().stream()
+                .filter(Person::isNurse)
+                .sorted(Comparator.comparing(person -> person.getName().toString()))
+                .collect(Collectors.toList());
+        assertEquals(expectedNurses, modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_partitionDisplayed_displayedListUpdated() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(new PersonHasAppointmentPredicate(new Appointment("Nurse")));
+        int nurseCount = modelManager.getFilteredPersonList().size();
+
+        // nurse becomes a patient -> leaves the nurse view
+        Person nurse = modelManager.getFilteredPersonList().get(0);
+        Person editedNurse = new PersonBuilder(nurse).withAppointment("Patient").build();
+        modelManager.setPerson(nurse, editedNurse);
+        assertEquals(nurseCount - 1, modelManager.getFilteredPersonList().size());
+        assertFalse(modelManager.getFilteredPersonList().contains(editedNurse));
+
+        // switching to the patient view shows the edited person
+        modelManager.updateFilteredPersonList(new PersonHasAppointmentPredicate(new Appointment("Patient")));
+        assertTrue(modelManager.getFilteredPersonList().contains(editedNurse));
+    }
+
+    @Test
+    public void updateFilteredPersonListByEarliestCheckup_checkupPredicate_tracksScheduledCheckups() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonListByEarliestCheckup(new PersonHasCheckupPredicate());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        Person later = new PersonBuilder(CARL).withCheckups("20/03/2030 10:00").buildWithCheckups();
+        Person earlier = new PersonBuilder(DANIEL).withCheckups("05/03/2030 09:00").buildWithCheckups();
+        modelManager.setPerson(CARL, later);
+        modelManager.setPerson(DANIEL, earlier);
+        assertEquals(List.of(earlier, later), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_tracksEditsAndDeletions() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // renamed out of the search -> leaves the displayed list
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertFalse(modelManager.getFilteredPersonList().contains(renamedBenson));
+
+        // renamed into the search -> joins the displayed list in name order
+        Person renamedCarl = new PersonBuilder(CARL).withName("Aaron Meier").build();
+        modelManager.setPerson(CARL, renamedCarl);
+        assertEquals(renamedCarl, modelManager.getFilteredPersonList().get(0));
+
+        modelManager.deletePerson(DANIEL);
+        assertEquals(List.of(renamedCarl), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
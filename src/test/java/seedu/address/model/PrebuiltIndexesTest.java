@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.assignment.AssignmentGraph;
+import seedu.address.model.checkup.CheckupTimeline;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PrebuiltIndexesTest {
+
+    private static final String[] NO_STRINGS = new String[0];
+    private static final int[][] NO_POSITIONS = new int[0][];
+
+    /**
+     * Returns {@code count} distinct persons, some assigned to nurses and some with checkups.
+     */
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PersonBuilder builder = new PersonBuilder()
+                    .withName("Patient " + toLetters(i) + " " + toLetters(i % 97))
+                    .withPhone(String.valueOf(90000000 + i));
+            if (i % 3 == 0) {
+                builder.withTags("Nurse " + toLetters(i % 11));
+            }
+            if (i % 5 == 0) {
+                builder.withCheckups(String.format("%02d/03/2030 %02d:00", 1 + i % 28, 9 + i % 8));
+            }
+            persons.add(builder.buildWithCheckups());
+        }
+        return persons;
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    @Test
+    public void constructor_positionOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PrebuiltIndexes(1, new String[] {"A"},
+                new int[][] {{1}}, NO_STRINGS, NO_POSITIONS, new int[0], new String[0][], new LocalDateTime[0],
+                NO_POSITIONS));
+    }
+
+    @Test
+    public void constructor_checkupTimesOutOfOrder_throwsIllegalArgumentException() {
+        LocalDateTime time = LocalDateTime.of(2030, 3, 1, 10, 0);
+        assertThrows(IllegalArgumentException.class, () -> new PrebuiltIndexes(1, NO_STRINGS, NO_POSITIONS,
+                NO_STRINGS, NO_POSITIONS, new int[0], new String[0][], new LocalDateTime[] {time, time},
+                new int[][] {{0}, {0}}));
+    }
+
+    @Test
+    public void build_manyPersons_restoresSameIndexesAsReset() {
+        List<Person> persons = generatePersons(PrebuiltIndexes.PARALLEL_BUILD_THRESHOLD + 100);
+        PrebuiltIndexes indexes = PrebuiltIndexes.build(persons);
+        assertEquals(persons.size(), indexes.getPersonCount());
+
+        NameIndex restoredNames = new NameIndex();
+        restoredNames.restore(persons, indexes);
+        NameIndex resetNames = new NameIndex();
+        resetNames.reset(persons);
+        for (String keyword : List.of("a", "ab", "bca", "patient", "zzz")) {
+            assertEquals(resetNames.find(List.of(keyword)), restoredNames.find(List.of(keyword)), keyword);
+        }
+
+        AssignmentGraph restoredAssignments = new AssignmentGraph();
+        restoredAssignments.restore(persons, indexes);
+        AssignmentGraph resetAssignments = new AssignmentGraph();
+        resetAssignments.reset(persons);
+        Name nurseName = new Name(toLetters(4));
+        assertEquals(resetAssignments.getPatientsOf(nurseName), restoredAssignments.getPatientsOf(nurseName));
+        assertEquals(resetAssignments.getNursesOf(persons.get(3)), restoredAssignments.getNursesOf(persons.get(3)));
+
+        CheckupTimeline restoredTimeline = new CheckupTimeline();
+        restoredTimeline.restore(persons, indexes);
+        CheckupTimeline resetTimeline = new CheckupTimeline();
+        resetTimeline.reset(persons);
+        assertEquals(resetTimeline.getPersonsBetween(LocalDateTime.MIN, LocalDateTime.MAX),
+                restoredTimeline.getPersonsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+}
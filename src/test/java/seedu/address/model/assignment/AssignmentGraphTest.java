@@ -0,0 +1,134 @@
+package seedu.address.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class AssignmentGraphTest {
+
+    private static final Name NURSE_NAME = BENSON.getName();
+
+    private final AssignmentGraph graph = new AssignmentGraph();
+
+    private static Person assignedTo(Person patient, Name... nurseNames) {
+        String[] tags = Arrays.stream(nurseNames)
+                .map(name -> AssignmentGraph.toNurseTag(name).tagName)
+                .toArray(String[]::new);
+        return new PersonBuilder(patient).withTags(tags).build();
+    }
+
+    @Test
+    public void toNurseTag_validName_returnsPrefixedTag() {
+        assertEquals(new Tag("Nurse BENSON MEIER"), AssignmentGraph.toNurseTag(NURSE_NAME));
+    }
+
+    @Test
+    public void isNurseTag() {
+        assertTrue(AssignmentGraph.isNurseTag(new Tag("Nurse BENSON MEIER")));
+        assertTrue(AssignmentGraph.isNurseTag(new Tag("NurseBensonMeier")));
+        assertFalse(AssignmentGraph.isNurseTag(new Tag("NURSE BENSON")));
+        assertFalse(AssignmentGraph.isNurseTag(new Tag("friends")));
+        assertFalse(AssignmentGraph.isNurseTag(new Tag("Nurs")));
+    }
+
+    @Test
+    public void toNurseName_nurseTag_returnsNameAsWritten() {
+        assertEquals("BENSON MEIER", AssignmentGraph.toNurseName(new Tag("Nurse BENSON MEIER")));
+        assertEquals("BensonMeier", AssignmentGraph.toNurseName(new Tag("NurseBensonMeier")));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> graph.add(null));
+    }
+
+    @Test
+    public void add_patientWithNurseTag_indexesBothDirections() {
+        Person patient = assignedTo(CARL, NURSE_NAME);
+        graph.add(patient);
+
+        assertTrue(graph.hasPatients(NURSE_NAME));
+        assertEquals(Collections.singletonList(patient), graph.getPatientsOf(NURSE_NAME));
+        assertEquals(Set.of("BENSON MEIER"), graph.getNursesOf(patient));
+    }
+
+    @Test
+    public void add_patientWithoutNurseTag_notIndexed() {
+        graph.add(BENSON);
+        assertFalse(graph.hasPatients(NURSE_NAME));
+        assertTrue(graph.getNursesOf(BENSON).isEmpty());
+    }
+
+    @Test
+    public void getPatientsOf_nurseNameInDifferentCase_returnsPatients() {
+        Person patient = new PersonBuilder(CARL).withTags("Nurse benson meier").build();
+        graph.add(patient);
+        assertEquals(Collections.singletonList(patient), graph.getPatientsOf(NURSE_NAME));
+    }
+
+    @Test
+    public void remove_lastPatientOfNurse_releasesNurse() {
+        Person patient = assignedTo(CARL, NURSE_NAME);
+        graph.add(patient);
+        graph.remove(patient);
+
+        assertFalse(graph.hasPatients(NURSE_NAME));
+        assertTrue(graph.getPatientsOf(NURSE_NAME).isEmpty());
+        assertTrue(graph.getNursesOf(patient).isEmpty());
+    }
+
+    @Test
+    public void replace_nurseUnassigned_updatesBothDirections() {
+        Name otherNurse = new Name("Daniel Meier");
+        Person patient = assignedTo(CARL, NURSE_NAME, otherNurse);
+        Person editedPatient = assignedTo(CARL, otherNurse);
+        graph.add(patient);
+        graph.replace(patient, editedPatient);
+
+        assertFalse(graph.hasPatients(NURSE_NAME));
+        assertEquals(Collections.singletonList(editedPatient), graph.getPatientsOf(otherNurse));
+        assertEquals(Set.of("DANIEL MEIER"), graph.getNursesOf(editedPatient));
+    }
+
+    @Test
+    public void reset_replacesAllAssignments() {
+        Person patient = assignedTo(CARL, NURSE_NAME);
+        graph.add(patient);
+        graph.reset(Arrays.asList(ALICE, BENSON));
+
+        assertFalse(graph.hasPatients(NURSE_NAME));
+        assertEquals(Set.of("BensonMeier"), graph.getNursesOf(ALICE));
+    }
+
+    @Test
+    public void restore_builtIndexes_sameAsReset() {
+        Person patient = assignedTo(CARL, NURSE_NAME, ALICE.getName());
+        List<Person> persons = Arrays.asList(ALICE, patient, BENSON);
+        graph.add(assignedTo(BENSON, NURSE_NAME));
+        graph.restore(persons, PrebuiltIndexes.build(persons));
+
+        assertEquals(List.of(patient), graph.getPatientsOf(NURSE_NAME));
+        assertEquals(List.of(patient), graph.getPatientsOf(ALICE.getName()));
+        assertEquals(Set.of("BensonMeier"), graph.getNursesOf(ALICE));
+        assertEquals(List.of(NURSE_NAME.fullName, ALICE.getName().fullName),
+                List.copyOf(graph.getNursesOf(patient)));
+        assertTrue(graph.getNursesOf(BENSON).isEmpty());
+    }
+}
@@ -49,6 +49,20 @@ public class CheckupTest {
         assertThrows(ParseException.class, () -> new Checkup(checkupDate, checkupTime, true));
     }
 
+    @Test
+    public void ofStored_pastDate_sameAsTrusted() throws ParseException {
+        LocalDate checkupDate = LocalDate.of(2020, 1, 1);
+        LocalTime checkupTime = LocalTime.of(10, 15);
+        assertEquals(Checkup.ofTrusted(checkupDate.atTime(checkupTime)), Checkup.ofStored(checkupDate, checkupTime));
+    }
+
+    @Test
+    public void ofStored_invalidTime_throwsParseException() {
+        LocalDate checkupDate = LocalDate.of(2020, 1, 1);
+        assertThrows(ParseException.class, () -> Checkup.ofStored(checkupDate, LocalTime.of(8, 0)));
+        assertThrows(ParseException.class, () -> Checkup.ofStored(checkupDate, LocalTime.of(10, 10)));
+    }
+
     @Test
     public void equals_sameCheckup_returnsTrue() throws ParseException {
         Checkup checkup1 = new Checkup(LocalDate.of(2025, 12, 24),
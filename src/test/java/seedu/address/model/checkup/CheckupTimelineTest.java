@@ -0,0 +1,111 @@
+package seedu.address.model.checkup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CheckupTimelineTest {
+
+    private static final LocalDateTime START_OF_MARCH = LocalDateTime.of(2030, 3, 1, 0, 0);
+    private static final LocalDateTime END_OF_MARCH = LocalDateTime.of(2030, 3, 31, 23, 59);
+
+    private final CheckupTimeline timeline = new CheckupTimeline();
+
+    private final Person carlInMarch = new PersonBuilder(CARL).withCheckups("20/03/2030 10:00").buildWithCheckups();
+    private final Person danielInMarchAndApril = new PersonBuilder(DANIEL)
+            .withCheckups("05/03/2030 09:00", "10/04/2030 09:00").buildWithCheckups();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timeline.add(null));
+    }
+
+    @Test
+    public void getPersonsBetween_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timeline.getPersonsBetween(null, END_OF_MARCH));
+        assertThrows(NullPointerException.class, () -> timeline.getPersonsBetween(START_OF_MARCH, null));
+    }
+
+    @Test
+    public void getPersonsBetween_personsInRange_sortedByEarliestCheckupInRange() {
+        timeline.add(carlInMarch);
+        timeline.add(danielInMarchAndApril);
+        timeline.add(BENSON);
+
+        assertEquals(Arrays.asList(danielInMarchAndApril, carlInMarch),
+                timeline.getPersonsBetween(START_OF_MARCH, END_OF_MARCH));
+    }
+
+    @Test
+    public void getPersonsBetween_boundsAreInclusive() {
+        timeline.add(carlInMarch);
+        LocalDateTime checkupTime = LocalDateTime.of(2030, 3, 20, 10, 0);
+        assertEquals(List.of(carlInMarch), timeline.getPersonsBetween(checkupTime, checkupTime));
+    }
+
+    @Test
+    public void getPersonsBetween_personWithSeveralCheckupsInRange_returnedOnce() {
+        timeline.add(danielInMarchAndApril);
+        assertEquals(List.of(danielInMarchAndApril),
+                timeline.getPersonsBetween(START_OF_MARCH, LocalDateTime.of(2030, 4, 30, 23, 59)));
+    }
+
+    @Test
+    public void getPersonsBetween_reversedRange_returnsEmptyList() {
+        timeline.add(carlInMarch);
+        assertTrue(timeline.getPersonsBetween(END_OF_MARCH, START_OF_MARCH).isEmpty());
+    }
+
+    @Test
+    public void remove_person_removesAllCheckups() {
+        timeline.add(danielInMarchAndApril);
+        timeline.remove(danielInMarchAndApril);
+        assertTrue(timeline.getPersonsBetween(LocalDateTime.MIN, LocalDateTime.MAX).isEmpty());
+    }
+
+    @Test
+    public void replace_checkupRescheduled_movesPerson() {
+        Person rescheduledCarl = new PersonBuilder(CARL).withCheckups("02/04/2030 10:00").buildWithCheckups();
+        timeline.add(carlInMarch);
+        timeline.replace(carlInMarch, rescheduledCarl);
+
+        assertTrue(timeline.getPersonsBetween(START_OF_MARCH, END_OF_MARCH).isEmpty());
+        assertEquals(List.of(rescheduledCarl),
+                timeline.getPersonsBetween(END_OF_MARCH, LocalDateTime.of(2030, 4, 30, 23, 59)));
+    }
+
+    @Test
+    public void reset_replacesAllCheckups() {
+        timeline.add(carlInMarch);
+        timeline.reset(List.of(danielInMarchAndApril));
+        assertEquals(List.of(danielInMarchAndApril), timeline.getPersonsBetween(START_OF_MARCH, END_OF_MARCH));
+    }
+
+    @Test
+    public void restore_builtIndexes_sameAsReset() {
+        List<Person> persons = List.of(carlInMarch, BENSON, danielInMarchAndApril);
+        timeline.add(carlInMarch);
+        timeline.restore(persons, PrebuiltIndexes.build(persons));
+
+        assertEquals(List.of(danielInMarchAndApril, carlInMarch),
+                timeline.getPersonsBetween(START_OF_MARCH, END_OF_MARCH));
+        assertEquals(List.of(danielInMarchAndApril, carlInMarch),
+                timeline.getPersonsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+
+        timeline.remove(danielInMarchAndApril);
+        assertEquals(List.of(carlInMarch), timeline.getPersonsBetween(START_OF_MARCH, END_OF_MARCH));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -42,4 +43,18 @@ public class AppointmentTest {
         assertFalse(appt1.equals(5));
         assertFalse(appt1.equals(appt2));
     }
+
+    @Test
+    public void of_validAppointment_returnsSharedInstance() {
+        assertSame(Appointment.NURSE, Appointment.of("nurse"));
+        assertSame(Appointment.NURSE, Appointment.of("NURSE"));
+        assertSame(Appointment.PATIENT, Appointment.of("Patient"));
+        assertEquals(new Appointment("patient"), Appointment.of("patient"));
+    }
+
+    @Test
+    public void of_invalidAppointment_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Appointment.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Appointment.of("Manager"));
+    }
 }
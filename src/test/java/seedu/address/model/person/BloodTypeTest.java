@@ -2,9 +2,12 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 
@@ -67,4 +70,28 @@ public class BloodTypeTest {
         assertFalse(smallCapsType.equals(new BloodType("b-")));
 
     }
+
+    @Test
+    public void of_validBloodType_returnsSharedInstance() {
+        assertSame(BloodType.of("AB+"), BloodType.of("ab+"));
+        assertSame(BloodType.of("O-"), BloodType.of("O-"));
+        assertEquals(new BloodType("B-"), BloodType.of("b-"));
+    }
+
+    @Test
+    public void of_invalidBloodType_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> BloodType.of(null));
+        assertThrows(IllegalArgumentException.class, () -> BloodType.of("C+"));
+        assertThrows(IllegalArgumentException.class, () -> BloodType.of(" O+"));
+    }
+
+    @Test
+    public void ordinal_positionInValues() {
+        List<BloodType> values = BloodType.values();
+        assertEquals(8, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(i, values.get(i).ordinal());
+        }
+        assertEquals(BloodType.of("AB-").ordinal(), new BloodType("ab-").ordinal());
+    }
 }
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -60,6 +63,21 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void isValidEmail_longNearMisses_doesNotBacktrack() {
+        // each of these took exponential time under the nested quantifiers the email used to be matched with
+        String longLocalPart = "a" + "._".repeat(20000);
+        String longDomainLabel = "a" + "-a".repeat(20000);
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertFalse(Email.isValidEmail(longLocalPart + "!"));
+            assertFalse(Email.isValidEmail(longLocalPart + "@example"));
+            assertFalse(Email.isValidEmail("peter@" + longDomainLabel + "-.com"));
+            assertFalse(Email.isValidEmail("peter@" + longDomainLabel + "." + longDomainLabel));
+            assertFalse(Email.isValidEmail("peter@" + "a.".repeat(20000) + "c"));
+            assertTrue(Email.isValidEmail(longLocalPart + "@" + longDomainLabel + ".com"));
+        });
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email.com");
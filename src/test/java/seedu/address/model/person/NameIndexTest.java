@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.PrebuiltIndexes;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex index = new NameIndex();
+
+    private static Set<PersonIdentityKey> keysOf(Person... persons) {
+        return Set.of(persons).stream().map(Person::getIdentityKey).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_matchesPredicate() {
+        List<Person> persons = getTypicalPersons();
+        index.reset(persons);
+        List<List<String>> queries = List.of(List.of("a"), List.of("ei"), List.of("MEI"), List.of("meier"),
+                List.of("eier", "kurz"), List.of("urz"), List.of("lle"), List.of("alice pauline"), List.of("zzz"),
+                List.of("benso", "best"));
+        for (List<String> keywords : queries) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<PersonIdentityKey> expected = persons.stream()
+                    .filter(predicate)
+                    .map(Person::getIdentityKey)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.find(keywords), keywords.toString());
+        }
+    }
+
+    @Test
+    public void restore_builtIndexes_sameAsReset() {
+        List<Person> persons = getTypicalPersons();
+        index.restore(persons, PrebuiltIndexes.build(persons));
+        NameIndex resetIndex = new NameIndex();
+        resetIndex.reset(persons);
+        for (String keyword : List.of("", "a", "ei", "MEI", "meier", "urz", "alice pauline", "zzz")) {
+            assertEquals(resetIndex.find(List.of(keyword)), index.find(List.of(keyword)), keyword);
+        }
+    }
+
+    @Test
+    public void find_keywordSpanningTokens_noMatch() {
+        index.add(ALICE);
+        assertTrue(index.find(List.of("ce pa")).isEmpty());
+        assertTrue(index.find(List.of("cepa")).isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithToken_tokenNoLongerMatches() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+        assertEquals(keysOf(DANIEL), index.find(List.of("meier")));
+        assertTrue(index.find(List.of("benson")).isEmpty());
+
+        index.remove(DANIEL);
+        assertTrue(index.find(List.of("meier")).isEmpty());
+        assertTrue(index.find(List.of("m")).isEmpty());
+    }
+
+    @Test
+    public void remove_renamedPerson_indexFollowsName() {
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        index.add(BENSON);
+        index.remove(BENSON);
+        index.add(renamedBenson);
+        assertEquals(keysOf(renamedBenson), index.find(List.of("kurz")));
+        assertTrue(index.find(List.of("meier")).isEmpty());
+    }
+}
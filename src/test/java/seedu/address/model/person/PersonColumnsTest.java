@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonColumns.Query;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonColumnsTest {
+
+    private static final Person OLD_O_NEG_PATIENT = new PersonBuilder().withName("Olive Oyl")
+            .withPhone("91110000").withDateOfBirth("02/03/1940").withBloodType("O-")
+            .withCheckups("12/03/2030 10:00").buildWithCheckups();
+    private static final Person YOUNG_O_NEG_PATIENT = new PersonBuilder().withName("Young Oyl")
+            .withPhone("92220000").withDateOfBirth("02/03/1990").withBloodType("O-")
+            .withCheckups("13/03/2030 10:00").buildWithCheckups();
+    private static final Person OLD_A_POS_PATIENT = new PersonBuilder().withName("Alan Pos")
+            .withPhone("93330000").withDateOfBirth("05/06/1935").withBloodType("A+").build();
+    private static final Person OLD_O_NEG_NURSE = new PersonBuilder().withName("Nora Neg")
+            .withPhone("94440000").withDateOfBirth("05/06/1938").withBloodType("O-")
+            .withAppointment("Nurse").build();
+
+    private static final LocalDate BORN_BEFORE = LocalDate.of(1945, 1, 1);
+    private static final LocalDateTime WEEK_START = LocalDateTime.of(2030, 3, 11, 0, 0);
+    private static final LocalDateTime WEEK_END = LocalDateTime.of(2030, 3, 17, 23, 59);
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    private static Query oldONegativePatientsWithCheckupThisWeek() {
+        return new Query().bloodType(BloodType.of("O-")).appointment(Appointment.PATIENT)
+                .bornBetween(LocalDate.MIN, BORN_BEFORE).earliestCheckupBetween(WEEK_START, WEEK_END);
+    }
+
+    @Test
+    public void toEpochMinute() {
+        assertEquals(0, PersonColumns.toEpochMinute(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        assertEquals(61, PersonColumns.toEpochMinute(LocalDateTime.of(1970, 1, 1, 1, 1)));
+        assertEquals(PersonColumns.NO_CHECKUP, PersonColumns.toEpochMinute(LocalDateTime.MAX));
+    }
+
+    @Test
+    public void select_emptyQuery_returnsEveryPerson() {
+        persons.setPersons(List.of(OLD_O_NEG_PATIENT, OLD_A_POS_PATIENT, OLD_O_NEG_NURSE));
+        assertEquals(3, persons.getColumns().count(new Query()));
+        assertEquals(persons.asUnmodifiableObservableList(), persons.getColumns().select(new Query()));
+    }
+
+    @Test
+    public void select_combinedConditions_returnsPersonsMatchingAll() {
+        persons.setPersons(List.of(OLD_O_NEG_PATIENT, YOUNG_O_NEG_PATIENT, OLD_A_POS_PATIENT, OLD_O_NEG_NURSE));
+        PersonColumns columns = persons.getColumns();
+
+        assertEquals(List.of(OLD_O_NEG_PATIENT), columns.select(oldONegativePatientsWithCheckupThisWeek()));
+        assertEquals(List.of(OLD_O_NEG_NURSE), columns.select(new Query().appointment(Appointment.NURSE)));
+        assertEquals(List.of(OLD_O_NEG_PATIENT, YOUNG_O_NEG_PATIENT),
+                columns.select(new Query().earliestCheckupBetween(LocalDateTime.MIN, LocalDateTime.MAX)));
+        assertEquals(3, columns.count(new Query().bloodType(BloodType.of("O-"), BloodType.of("AB+"))));
+        assertTrue(columns.select(new Query().appointment(Appointment.NURSE).appointment(Appointment.PATIENT))
+                .isEmpty());
+    }
+
+    @Test
+    public void countByBloodType_countsMatchingPersonsPerBloodType() {
+        persons.setPersons(List.of(OLD_O_NEG_PATIENT, YOUNG_O_NEG_PATIENT, OLD_A_POS_PATIENT, OLD_O_NEG_NURSE));
+        int[] expected = new int[BloodType.values().size()];
+        expected[BloodType.of("O-").ordinal()] = 2;
+        expected[BloodType.of("A+").ordinal()] = 1;
+        assertArrayEquals(expected,
+                persons.getColumns().countByBloodType(new Query().appointment(Appointment.PATIENT)));
+    }
+
+    @Test
+    public void listMutations_columnsKeptInSync() {
+        PersonColumns columns = persons.getColumns();
+        persons.add(OLD_A_POS_PATIENT);
+        persons.add(OLD_O_NEG_PATIENT);
+        persons.add(OLD_O_NEG_NURSE);
+        assertEquals(1, columns.count(oldONegativePatientsWithCheckupThisWeek()));
+
+        // removing an earlier row shifts the later rows
+        persons.remove(OLD_A_POS_PATIENT);
+        assertEquals(2, columns.size());
+        assertEquals(List.of(OLD_O_NEG_PATIENT), columns.select(oldONegativePatientsWithCheckupThisWeek()));
+
+        // an edit rewrites the row
+        Person nextWeek = new PersonBuilder(OLD_O_NEG_PATIENT).withCheckups("20/03/2030 10:00").buildWithCheckups();
+        persons.setPerson(OLD_O_NEG_PATIENT, nextWeek);
+        assertEquals(0, columns.count(oldONegativePatientsWithCheckupThisWeek()));
+
+        persons.setPersons(List.of(YOUNG_O_NEG_PATIENT));
+        assertEquals(List.of(YOUNG_O_NEG_PATIENT), columns.select(new Query()));
+    }
+
+    @Test
+    public void query_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Query().bloodType((BloodType) null));
+        assertThrows(NullPointerException.class, () -> new Query().appointment(null));
+        assertThrows(NullPointerException.class, () -> new Query().bornBetween(null, LocalDate.MAX));
+        assertThrows(NullPointerException.class, () -> persons.getColumns().select(null));
+    }
+}
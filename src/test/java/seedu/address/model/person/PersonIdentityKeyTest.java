@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdentityKeyTest {
+
+    private static final Name NAME = new Name("Alice Pauline");
+    private static final Phone PHONE = new Phone("94351253");
+    private static final DateOfBirth DOB = new DateOfBirth("01/01/2001");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIdentityKey(null, PHONE, DOB));
+        assertThrows(NullPointerException.class, () -> new PersonIdentityKey(NAME, null, DOB));
+        assertThrows(NullPointerException.class, () -> new PersonIdentityKey(NAME, PHONE, null));
+    }
+
+    @Test
+    public void equals() {
+        PersonIdentityKey key = new PersonIdentityKey(NAME, PHONE, DOB);
+
+        // same values -> returns true
+        assertTrue(key.equals(new PersonIdentityKey(NAME, PHONE, DOB)));
+
+        // same object -> returns true
+        assertTrue(key.equals(key));
+
+        // null -> returns false
+        assertFalse(key.equals(null));
+
+        // different types -> returns false
+        assertFalse(key.equals(5.0f));
+
+        // differently spaced phone -> returns true
+        PersonIdentityKey spacedKey = new PersonIdentityKey(NAME, new Phone("9435 1253"), DOB);
+        assertTrue(key.equals(spacedKey));
+        assertEquals(key.hashCode(), spacedKey.hashCode());
+
+        // name differs only in case -> returns true
+        assertTrue(key.equals(new PersonIdentityKey(new Name("alice pauline"), PHONE, DOB)));
+
+        // different name -> returns false
+        assertFalse(key.equals(new PersonIdentityKey(new Name("Bob Choo"), PHONE, DOB)));
+
+        // different phone -> returns false
+        assertFalse(key.equals(new PersonIdentityKey(NAME, new Phone("94351254"), DOB)));
+
+        // phone separated by other whitespace than spaces -> returns false
+        assertFalse(key.equals(new PersonIdentityKey(NAME, new Phone("9435\t1253"), DOB)));
+
+        // different date of birth -> returns false
+        assertFalse(key.equals(new PersonIdentityKey(NAME, PHONE, new DateOfBirth("02/01/2001"))));
+    }
+
+    @Test
+    public void withoutSpaces() {
+        assertEquals("94351253", PersonIdentityKey.withoutSpaces("9435 1253"));
+        assertEquals("94351253", PersonIdentityKey.withoutSpaces("9435  1253"));
+        assertEquals("9435\t1253", PersonIdentityKey.withoutSpaces("9435\t1253"));
+        assertEquals("", PersonIdentityKey.withoutSpaces(""));
+    }
+}
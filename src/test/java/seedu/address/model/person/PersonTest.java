@@ -12,7 +12,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -103,6 +106,53 @@ public class PersonTest {
         assertTrue(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void withId() {
+        Person aliceWithId = ALICE.withId(42);
+        assertEquals(42, aliceWithId.getId());
+        assertEquals(Person.UNASSIGNED_ID, ALICE.getId());
+
+        // id is not part of equality
+        assertTrue(ALICE.equals(aliceWithId));
+        assertEquals(ALICE.hashCode(), aliceWithId.hashCode());
+    }
+
+    @Test
+    public void withLazyDetails() {
+        Person alice = ALICE.withId(42);
+        List<Long> loadedIds = new ArrayList<>();
+        Person lazyAlice = alice.withLazyDetails(id -> {
+            loadedIds.add(id);
+            return alice.getDetails();
+        });
+
+        // details are only loaded when asked for, each time
+        assertEquals(alice, lazyAlice);
+        assertEquals(alice.hashCode(), lazyAlice.hashCode());
+        assertEquals(List.of(), loadedIds);
+        assertEquals(ALICE.getNextOfKin(), lazyAlice.getNextOfKin());
+        assertEquals(ALICE.getMedicalHistory(), lazyAlice.getMedicalHistory());
+        assertEquals(List.of(42L, 42L), loadedIds);
+
+        // a different id -> details loaded once, and held from then on
+        Person movedAlice = lazyAlice.withId(43);
+        assertEquals(List.of(42L, 42L, 42L), loadedIds);
+        assertEquals(ALICE.getDetails(), movedAlice.getDetails());
+        assertEquals(3, loadedIds.size());
+    }
+
+    @Test
+    public void getEarliestCheckupDateTime() {
+        // no checkups -> returns max
+        assertEquals(LocalDateTime.MAX, BOB.getEarliestCheckupDateTime());
+
+        // several checkups -> returns earliest, repeatedly
+        Person person = new PersonBuilder(BOB).withCheckups("20/03/2030 10:00", "05/03/2030 09:00",
+                "10/04/2030 09:00").buildWithCheckups();
+        assertEquals(LocalDateTime.of(2030, 3, 5, 9, 0), person.getEarliestCheckupDateTime());
+        assertEquals(LocalDateTime.of(2030, 3, 5, 9, 0), person.getEarliestCheckupDateTime());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -114,6 +164,23 @@ public class PersonTest {
         assertEquals(expected, ALICE.toString());
     }
 
+    @Test
+    public void toString_lazyDetails_detailsNotLoaded() {
+        Person alice = ALICE.withId(42);
+        List<Long> loadedIds = new ArrayList<>();
+        Person lazyAlice = alice.withLazyDetails(id -> {
+            loadedIds.add(id);
+            return alice.getDetails();
+        });
+
+        String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
+                + ", email=" + ALICE.getEmail() + ", address=" + ALICE.getAddress()
+                + ", bloodType=" + ALICE.getBloodType() + ", appointment=" + ALICE.getAppointment()
+                + ", tags=" + ALICE.getTags() + ", checkups=" + ALICE.getCheckups() + "}";
+        assertEquals(expected, lazyAlice.toString());
+        assertEquals(List.of(), loadedIds);
+    }
+
     @Test
     public void constructor_optionalFieldsAreHandled() {
         Name name = new Name("Alice Pauline");
@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +50,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlySpacedPhoneInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person spacedAlice = new PersonBuilder(ALICE).withPhone("9435 1253").build();
+        assertTrue(uniquePersonList.contains(spacedAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +112,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +145,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_releasesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +189,15 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsOwnList() {
+        uniquePersonList.add(BOB);
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +208,125 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void add_personWithoutId_assignsUniqueIds() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedBob = uniquePersonList.add(BOB);
+        assertEquals(Person.UNASSIGNED_ID, ALICE.getId());
+        assertTrue(storedAlice.getId() > Person.UNASSIGNED_ID);
+        assertTrue(storedBob.getId() > storedAlice.getId());
+        assertEquals(List.of(storedAlice, storedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_personWithIdInUse_assignsNewId() {
+        uniquePersonList.add(ALICE.withId(5));
+        Person storedBob = uniquePersonList.add(BOB.withId(5));
+        assertTrue(storedBob.getId() > 5);
+    }
+
+    @Test
+    public void setPerson_storedTarget_keepsIdOfTarget() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedEditedAlice = uniquePersonList.setPerson(storedAlice, BOB);
+        assertEquals(storedAlice.getId(), storedEditedAlice.getId());
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillAddressable() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedBob = uniquePersonList.add(BOB);
+        Person storedCarl = uniquePersonList.add(CARL);
+        uniquePersonList.remove(storedAlice);
+
+        uniquePersonList.remove(storedCarl);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_AMY).build();
+        uniquePersonList.setPerson(storedBob, editedBob);
+        assertEquals(List.of(editedBob), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_targetWithIdOfAnotherPerson_locatesTargetByIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person bobWithAliceId = BOB.withId(uniquePersonList.asUnmodifiableObservableList().get(0).getId());
+        uniquePersonList.remove(bobWithAliceId);
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_staleTargetWithSameIdAndIdentity_throwsPersonNotFoundException() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person staleAlice = new PersonBuilder(ALICE).withBloodType("O-").build().withId(storedAlice.getId());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(staleAlice));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_severalPersons_remainingPersonsLocatedById() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL, DANIEL));
+        List<Person> storedPersons = List.copyOf(uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(storedPersons.get(2));
+        uniquePersonList.remove(storedPersons.get(0));
+
+        assertEquals(storedPersons.get(1), uniquePersonList.getById(storedPersons.get(1).getId()).get());
+        assertEquals(storedPersons.get(3), uniquePersonList.getById(storedPersons.get(3).getId()).get());
+        assertFalse(uniquePersonList.getById(storedPersons.get(2).getId()).isPresent());
+        assertEquals(1, uniquePersonList.indexOf(storedPersons.get(3)));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateIds_keepsFirstAndReassignsOthers() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE.withId(3), BOB.withId(3), CARL));
+        List<Person> storedPersons = uniquePersonList.asUnmodifiableObservableList();
+        assertEquals(3, storedPersons.get(0).getId());
+        assertEquals(4, storedPersons.get(1).getId());
+        assertEquals(5, storedPersons.get(2).getId());
+
+        Person storedDaniel = uniquePersonList.add(DANIEL);
+        assertEquals(6, storedDaniel.getId());
+    }
+
+    @Test
+    public void findByName_mutations_indexKeptInSync() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        assertEquals(List.of(CARL), uniquePersonList.findByName(List.of("arl")));
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Pauline").build();
+        Person storedCarl = uniquePersonList.setPerson(CARL, renamedCarl);
+        assertEquals(2, uniquePersonList.findByName(List.of("paul")).size());
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(storedCarl), uniquePersonList.findByName(List.of("paul")));
+
+        uniquePersonList.setPersons(List.of(DANIEL));
+        assertTrue(uniquePersonList.findByName(List.of("paul")).isEmpty());
+        assertEquals(List.of(DANIEL), uniquePersonList.findByName(List.of("dan")));
+    }
+
+    @Test
+    public void getVersion_changesOnEveryModification() {
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(ALICE);
+        uniquePersonList.findByName(List.of("alice"));
+        assertEquals(version, uniquePersonList.getVersion());
+
+        uniquePersonList.setPerson(ALICE, CARL);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.remove(CARL);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.setPersons(List.of(DANIEL));
+        assertTrue(uniquePersonList.getVersion() > version);
+    }
 }
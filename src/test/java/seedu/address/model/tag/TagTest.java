@@ -3,8 +3,13 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -54,4 +59,28 @@ public class TagTest {
         // different types -> returns false
         assertFalse(tag1.equals(tag2));
     }
+
+    @Test
+    public void of_sameName_returnsInternedTag() {
+        Tag tag = Tag.of("Nurse ALICE");
+        assertSame(tag, Tag.of(new String("Nurse ALICE")));
+        assertEquals(new Tag("Nurse ALICE"), tag);
+        assertNotEquals(tag, Tag.of("Nurse BOB"));
+    }
+
+    @Test
+    public void of_sameNameFromManyThreads_returnsOneTag() {
+        List<Tag> tags = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> Tag.of("Ward" + (i % 10)))
+                .collect(Collectors.toList());
+        for (Tag tag : tags) {
+            assertSame(Tag.of(tag.tagName), tag);
+        }
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("#friend"));
+    }
 }
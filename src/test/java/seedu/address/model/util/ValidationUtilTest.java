@@ -0,0 +1,90 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    // the expressions the value classes validated with before, which the validators must agree with
+    private static final String NAME_REGEX = "^[A-Za-z]+(?:[ '\\-/][A-Za-z]+)*$";
+    private static final String PHONE_REGEX = "^(?!0+(?:\\s+0+)*$)(?:\\d{3,}(?:\\s+\\d{3,})*)$";
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9][A-Za-z0-9_.+-]+(?:[+_.-]*[A-Za-z0-9_.+-]+)*"
+            + "@[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9]*[A-Za-z0-9])?"
+            + "(?:\\.[A-Za-z0-9](?:[A-Za-z0-9-]*[A-Za-z0-9]*[A-Za-z0-9])?)*\\.[A-Za-z0-9]{2,}$";
+    private static final String BLOOD_TYPE_REGEX = "^(A\\+|A\\-|B\\+|B\\-|AB\\+|AB\\-|O\\+|O\\-)$";
+    private static final String APPOINTMENT_REGEX = "^(nurse|patient)$";
+
+    private static final int SAMPLES = 20000;
+
+    /**
+     * Checks that {@code validator} accepts exactly the strings matched by {@code regex}, over random strings of up
+     * to {@code maxLength} characters of {@code alphabet}.
+     */
+    private static void assertSameAsRegex(Predicate<String> validator, Predicate<String> regexValidator,
+            String alphabet, int maxLength) {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            String test = generateString(random, alphabet, maxLength);
+            assertEquals(regexValidator.test(test), validator.test(test), test);
+        }
+    }
+
+    private static String generateString(Random random, String alphabet, int maxLength) {
+        StringBuilder string = new StringBuilder();
+        for (int length = random.nextInt(maxLength + 1); length > 0; length--) {
+            string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return string.toString();
+    }
+
+    @Test
+    public void isValidName_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isValidName, test -> test.matches(NAME_REGEX), "aZ '-/.1", 8);
+    }
+
+    @Test
+    public void isValidPhone_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isValidPhone, test -> test.matches(PHONE_REGEX), "0009 \t-", 10);
+    }
+
+    @Test
+    public void isValidEmail_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isValidEmail, test -> test.matches(EMAIL_REGEX), "ab1@.-_+", 10);
+
+        // most random strings are not emails, so also try strings split by '@' into two likelier parts
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            String test = generateString(random, "a1._+-", 4) + "@" + generateString(random, "ab1-.", 8);
+            assertEquals(test.matches(EMAIL_REGEX), ValidationUtil.isValidEmail(test), test);
+        }
+    }
+
+    @Test
+    public void isValidBloodType_sameAsRegex() {
+        assertSameAsRegex(ValidationUtil::isValidBloodType,
+                test -> test.toUpperCase().matches(BLOOD_TYPE_REGEX), "aAbBoO+-", 4);
+    }
+
+    @Test
+    public void isValidAppointment() {
+        assertSameAsRegex(ValidationUtil::isValidAppointment,
+                test -> test.toLowerCase().matches(APPOINTMENT_REGEX), "nursNURS", 5);
+        assertTrue(ValidationUtil.isValidAppointment("PaTiEnT"));
+        assertFalse(ValidationUtil.isValidAppointment("nurses"));
+        assertFalse(ValidationUtil.isValidAppointment("PAT\u0130ENT")); // dotted capital I is not an ASCII letter
+    }
+
+    @Test
+    public void isValidPhone_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isValidPhone(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isValidBloodType(null));
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isValidAppointment(null));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+
+public class BinaryAddressBookReaderTest {
+
+    private static byte[] write(List<Person> persons) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeTo(persons, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void readPerson_typicalPersons_samePersons() throws Exception {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(write(persons)));
+        assertEquals(persons.size(), reader.size());
+        for (int i = 0; i < reader.size(); i++) {
+            assertEquals(persons.get(i), reader.readPerson(i));
+            assertEquals(persons.get(i).getId(), reader.readPerson(i).getId());
+        }
+    }
+
+    @Test
+    public void readPersonWithoutDetails_typicalPersons_detailsReadSeparately() throws Exception {
+        List<Person> persons = getTypicalAddressBook().getPersonList();
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(write(persons)));
+        for (int i = 0; i < reader.size(); i++) {
+            Person person = reader.readPersonWithoutDetails(i);
+            assertEquals(PersonDetails.EMPTY, person.getDetails());
+            assertEquals(persons.get(i).getId(), reader.readId(i));
+            assertEquals(persons.get(i), person.withDetails(reader.readDetails(i)));
+        }
+    }
+
+    @Test
+    public void readPerson_invalidIndex_throwsIndexOutOfBoundsException() throws Exception {
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(write(List.of(ALICE))));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.readPerson(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.readPerson(reader.size()));
+    }
+
+    @Test
+    public void readPerson_invalidPerson_onlyThatPersonFails() throws Exception {
+        // same length, so that the file stays well formed but the name is no longer valid
+        byte[] content = write(List.of(ALICE, BENSON));
+        byte[] name = ALICE.getName().fullName.getBytes(StandardCharsets.UTF_8);
+        int nameOffset = indexOf(content, name);
+        content[nameOffset + name.length - 1] = '!';
+
+        BinaryAddressBookReader reader = new BinaryAddressBookReader(ByteBuffer.wrap(content));
+        assertEquals(2, reader.size());
+        assertEquals(BENSON, reader.readPerson(1));
+        assertThrows(IllegalValueException.class, () -> reader.readPerson(0));
+    }
+
+    @Test
+    public void constructor_notBinaryFormat_throwsIoException() {
+        byte[] content = "{ \"persons\": [] }".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> new BinaryAddressBookReader(ByteBuffer.wrap(content)));
+    }
+
+    @Test
+    public void constructor_truncatedFile_throwsIoException() throws Exception {
+        byte[] content = write(getTypicalAddressBook().getPersonList());
+        byte[] truncated = Arrays.copyOf(content, content.length - 3);
+        assertThrows(IOException.class, () -> new BinaryAddressBookReader(ByteBuffer.wrap(truncated)));
+    }
+
+    private static int indexOf(byte[] content, byte[] part) {
+        for (int i = 0; i + part.length <= content.length; i++) {
+            if (Arrays.equals(content, i, i + part.length, part, 0, part.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Not found");
+    }
+}
@@ -0,0 +1,203 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.bin");
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath())
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Checkup Patient").withPhone("81112222")
+                .withCheckups("10/10/2030 10:00", "11/10/2030 14:30").buildWithCheckups());
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath());
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertSamePersons(original.getPersonList(), readBack.getPersonList());
+
+        // overwrite the file after changes
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withTags("diabetic").build());
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertSamePersons(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_convertedFromAndToJson_sameJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        String originalJson = FileUtil.readFromFile(jsonFilePath);
+
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath());
+        binaryAddressBookStorage.saveAddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(binaryAddressBookStorage.readAddressBook().get());
+
+        assertEquals(originalJson, FileUtil.readFromFile(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_repeatedStrings_storedOnce() throws Exception {
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy Bee").withPhone("81110000")
+                .withAddress("A very long shared address that should only be stored once").build());
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+        long oneAddressSize = Files.size(filePath());
+
+        addressBook.addPerson(new PersonBuilder().withName("Amy Cee").withPhone("81110001")
+                .withAddress("A very long shared address that should only be stored once").build());
+        binaryAddressBookStorage.saveAddressBook(addressBook);
+        long sharedAddressSize = Files.size(filePath());
+
+        // the second person adds its name and phone to the table, and small positions for the shared strings
+        assertTrue(sharedAddressSize - oneAddressSize < "A very long shared address".length() + 20);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(filePath(), "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        ByteBuffer content = ByteBuffer.allocate(5);
+        content.putInt(BinaryAddressBookStorage.MAGIC).put((byte) (BinaryAddressBookStorage.VERSION + 1));
+        Files.write(filePath(), content.array());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath());
+        Files.write(filePath(), Arrays.copyOf(content, content.length - 3));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        Files.write(filePath(), new byte[0]);
+        try (var out = Files.newOutputStream(filePath())) {
+            BinaryAddressBookStorage.writeTo(List.of(ALICE, ALICE), out);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_dataFile_detailsLeftInFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath());
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertFalse(readBack.getPersonList().get(0).isDetailsLoaded());
+        assertSamePersons(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_readPersonsLoadFromNewFile() throws Exception {
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath());
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook loaded = new AddressBook(binaryAddressBookStorage.readAddressBook().get());
+        Person readBenson = loaded.getPersonList().get(1);
+
+        loaded.removePerson(loaded.getPersonList().get(0));
+        loaded.setPerson(readBenson, new PersonBuilder(readBenson).withMedicalHistory("Asthma").build());
+        loaded.addPerson(new PersonBuilder().withName("Amy Bee").withPhone("81110000").build());
+        binaryAddressBookStorage.saveAddressBook(loaded);
+
+        // the persons read before the save, with their details not loaded, load them from the new file
+        assertFalse(loaded.getPersonList().get(1).isDetailsLoaded());
+        assertEquals(getTypicalAddressBook().getPersonList().get(2).getDetails(),
+                loaded.getPersonList().get(1).getDetails());
+        assertSamePersons(loaded.getPersonList(), binaryAddressBookStorage.readAddressBook().get().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_invalidDetails_throwsDataLoadingException() throws Exception {
+        new BinaryAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+        // same length, so that the file stays well formed but the next of kin is no longer valid
+        byte[] content = Files.readAllBytes(filePath());
+        byte[] nextOfKin = "John 92231333".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + nextOfKin.length <= content.length; i++) {
+            if (Arrays.equals(content, i, i + nextOfKin.length, nextOfKin, 0, nextOfKin.length)) {
+                content[i + nextOfKin.length - 1] = 'x';
+            }
+        }
+        Files.write(filePath(), content);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath())
+                .saveAddressBook(null));
+    }
+
+    /**
+     * Asserts that {@code actual} holds persons with the same fields, IDs and checkups as {@code expected}, in order.
+     */
+    private static void assertSamePersons(List<Person> expected, List<Person> actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), actual.get(i).getId());
+            assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+            assertEquals(expected.get(i).getTags(), actual.get(i).getTags());
+            assertEquals(expected.get(i).getMedicalHistory(), actual.get(i).getMedicalHistory());
+            assertEquals(expected.get(i).getNextOfKin(), actual.get(i).getNextOfKin());
+            assertEquals(expected.get(i).getCheckups(), actual.get(i).getCheckups());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.json");
+    }
+
+    private Path journalFilePath() {
+        return JournaledAddressBookStorage.getJournalFilePath(filePath());
+    }
+
+    private AddressBook readBack() throws DataLoadingException {
+        return new AddressBook(new JournaledAddressBookStorage(filePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath())
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(filePath())
+                .saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSnapshot_appendedToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath()));
+        String snapshot = Files.readString(filePath());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 Journal Street").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath()));
+        // the stamp of the snapshot, then one record per change
+        assertEquals(4, Files.readAllLines(journalFilePath()).size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_identityTakenOverInOneSave_readsBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+
+        // Benson gives up his identity, then Alice, listed before him, takes it over; both are saved at once
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        original.setPerson(ALICE, new PersonBuilder(BENSON).build());
+        storage.saveAddressBook(original);
+
+        assertEquals(3, Files.readAllLines(journalFilePath()).size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsAfterReplay_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        original.setPerson(ALICE, new PersonBuilder(BENSON).build());
+        storage.saveAddressBook(original);
+
+        // without the record renaming Benson, Alice and Benson end up with the same identity
+        List<String> records = Files.readAllLines(journalFilePath());
+        Files.write(journalFilePath(), records.subList(0, 2));
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath())
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath()).saveAddressBook(original);
+        original.addPerson(HOON);
+
+        // a new storage reading the files saves only what changes after the read
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        loaded.addPerson(IDA);
+        storage.saveAddressBook(loaded);
+
+        assertEquals(2, Files.readAllLines(journalFilePath()).size());
+        original.removePerson(HOON);
+        original.addPerson(IDA);
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath(), 2);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath()));
+
+        original.addPerson(IDA);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+
+        List<Person> reversed = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversed);
+        original.setPersons(reversed);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(journalFilePath(), "{\"op\":\"put\",\"person\":{\"name\":", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        String stamp = Files.readAllLines(journalFilePath()).get(0);
+        Files.writeString(journalFilePath(), stamp + "\n{\"op\":\"rename\",\"id\":1}\n{\"op\":\"remove\",\"id\":2}\n");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath())
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath());
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.delete(filePath());
+
+        assertFalse(new JournaledAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_journalOfEarlierSnapshot_journalIgnoredThenDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath(), 2);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> staleJournal = Files.readAllLines(journalFilePath());
+
+        // as if saving stopped after the compacted snapshot was written, but before the journal was deleted
+        original.addPerson(IDA);
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath(), staleJournal);
+        assertEquals(original, readBack());
+
+        JournaledAddressBookStorage reloadedStorage = new JournaledAddressBookStorage(filePath(), 2);
+        AddressBook loaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        loaded.removePerson(BENSON);
+        reloadedStorage.saveAddressBook(loaded);
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(loaded, readBack());
+    }
+}
@@ -15,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 public class JsonAdaptedPersonTest {
@@ -52,6 +53,28 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_personWithId_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON.withId(7));
+        assertEquals(7, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_returnsPersonWithoutId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        assertEquals(Person.UNASSIGNED_ID, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(-1L, VALID_NAME, VALID_DOB, VALID_PHONE, VALID_EMAIL,
+                VALID_ADDRESS, VALID_BLOODTYPE, VALID_APPOINTMENT, VALID_NEXTOFKIN, VALID_TAGS, VALID_MEDICAL_HISTORY,
+                VALID_CHECKUP);
+        assertThrows(IllegalValueException.class, JsonAdaptedPerson.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
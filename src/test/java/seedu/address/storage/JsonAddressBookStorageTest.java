@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,24 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.checkup.Checkup;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +96,197 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamed_sameAsSerializedDocument() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compact_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        String content = FileUtil.readFromFile(filePath);
+        assertFalse(content.contains("\n"));
+        assertTrue(content.startsWith("{\"persons\":["));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_withConsumer_personsGivenInOrder() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<Person> personsRead = new ArrayList<>();
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath, personsRead::add).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(readBack.getPersonList(), personsRead);
+    }
+
+    @Test
+    public void saveAddressBook_checksumFileWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        Path checksumFilePath = JsonAddressBookStorage.getChecksumFilePath(filePath);
+        assertEquals(testFolder.resolve("TempAddressBook.json.checksum"), checksumFilePath);
+        assertTrue(FileUtil.readFromFile(checksumFilePath)
+                .endsWith(" " + Files.size(filePath) + " " + Long.toHexString(FileUtil.getChecksum(filePath))));
+    }
+
+    @Test
+    public void readAddressBook_pastCheckupWithAndWithoutChecksum_readsSame() throws Exception {
+        // a checkup that has passed since it was saved is read back as saved, whether validated or not
+        Person withPastCheckup = new Person(ALICE.getName(), ALICE.getDateOfBirth(), ALICE.getPhone(),
+                ALICE.getEmail(), ALICE.getAddress(), ALICE.getBloodType(), ALICE.getAppointment(), ALICE.getTags(),
+                ALICE.getNextOfKin(), ALICE.getMedicalHistory(),
+                Set.of(Checkup.ofTrusted(LocalDateTime.of(2020, 1, 6, 10, 0))));
+        AddressBook original = new AddressBook();
+        original.addPerson(withPastCheckup);
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        Files.delete(JsonAddressBookStorage.getChecksumFilePath(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_editedSinceSaved_validated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // same size, so that only the checksum tells the edit apart
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace(ALICE.getName().fullName,
+                ALICE.getName().fullName.substring(1) + "!"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_validEditSinceSaved_editReadWithoutIndexes() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+
+        // same size, so that the file is first parsed without validation and only the checksum tells the edit apart
+        String editedEmail = "x" + ALICE.getEmail().value.substring(1);
+        String content = FileUtil.readFromFile(filePath);
+        FileUtil.writeToFile(filePath, content.replace(ALICE.getEmail().value, editedEmail));
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertFalse(readBack.getPrebuiltIndexes().isPresent());
+        assertEquals(editedEmail, readBack.getPersonList().get(0).getEmail().value);
+    }
+
+    @Test
+    public void readAddressBook_unchangedSinceSaved_indexesRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+        assertTrue(Files.exists(testFolder.resolve("TempAddressBook.json.indexes")));
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertTrue(readBack.getPrebuiltIndexes().isPresent());
+        AddressBook restored = new AddressBook(readBack);
+        assertEquals(getTypicalAddressBook(), restored);
+        assertEquals(List.of(ALICE), restored.findPersonsByName(List.of("alice")));
+        assertEquals(Set.of("BensonMeier"), restored.getNursesAssignedTo(ALICE));
+    }
+
+    @Test
+    public void readAddressBook_indexesOfOtherSave_indexesNotRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path indexesFilePath = JsonAddressBookStorage.getIndexesFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+        byte[] earlierIndexes = Files.readAllBytes(indexesFilePath);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        Files.write(indexesFilePath, earlierIndexes);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertFalse(readBack.getPrebuiltIndexes().isPresent());
+        assertEquals(List.of(HOON), new AddressBook(readBack).findPersonsByName(List.of("hoon")));
+    }
+
+    @Test
+    public void readAddressBook_corruptedIndexesFile_indexesNotRestored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path indexesFilePath = JsonAddressBookStorage.getIndexesFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+        byte[] indexes = Files.readAllBytes(indexesFilePath);
+        indexes[indexes.length / 2] ^= 1;
+        Files.write(indexesFilePath, indexes);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertFalse(readBack.getPrebuiltIndexes().isPresent());
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_changedSinceIndexesSaved_staleIndexesFileDeleted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path indexesFilePath = JsonAddressBookStorage.getIndexesFilePath(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(indexesFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_withPrebuiltIndexes_indexesFileWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+
+        Path copyFilePath = testFolder.resolve("Copy.json");
+        jsonAddressBookStorage.saveAddressBook(readBack, copyFilePath);
+        assertTrue(Files.exists(JsonAddressBookStorage.getIndexesFilePath(copyFilePath)));
+        assertTrue(jsonAddressBookStorage.readAddressBook(copyFilePath).get().getPrebuiltIndexes().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookIndexes_personsChangedSinceSaved_indexesNotSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBookIndexes(original);
+        assertFalse(Files.exists(JsonAddressBookStorage.getIndexesFilePath(filePath)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,16 +1,28 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +56,134 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_success() throws Exception {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = createJsonAdaptedPersons(1000);
+        AddressBook addressBook = new JsonSerializableAddressBook(jsonAdaptedPersons).toModelType();
+
+        assertEquals(1000, addressBook.getPersonList().size());
+        for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+            assertEquals(jsonAdaptedPersons.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidAndDuplicate_firstInOrderReported() {
+        // a duplicate before an invalid person
+        List<JsonAdaptedPerson> jsonAdaptedPersons = createJsonAdaptedPersons(1000);
+        jsonAdaptedPersons.set(700, jsonAdaptedPersons.get(300));
+        jsonAdaptedPersons.set(800, createJsonAdaptedPerson("+651234"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(jsonAdaptedPersons)::toModelType);
+
+        // an invalid person before a duplicate
+        jsonAdaptedPersons = createJsonAdaptedPersons(1000);
+        jsonAdaptedPersons.set(700, createJsonAdaptedPerson("+651234"));
+        jsonAdaptedPersons.set(800, jsonAdaptedPersons.get(300));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(jsonAdaptedPersons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithUnexpectedError_firstInOrderReported() {
+        // an unexpected error before an invalid person
+        List<JsonAdaptedPerson> jsonAdaptedPersons = createJsonAdaptedPersons(1000);
+        jsonAdaptedPersons.set(700, createFailingJsonAdaptedPerson());
+        jsonAdaptedPersons.set(800, createJsonAdaptedPerson("+651234"));
+        assertThrows(IllegalStateException.class, new JsonSerializableAddressBook(jsonAdaptedPersons)::toModelType);
+
+        // an invalid person before an unexpected error
+        jsonAdaptedPersons = createJsonAdaptedPersons(1000);
+        jsonAdaptedPersons.set(700, createJsonAdaptedPerson("+651234"));
+        jsonAdaptedPersons.set(800, createFailingJsonAdaptedPerson());
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(jsonAdaptedPersons)::toModelType);
+    }
+
+    /**
+     * Returns {@code count} json-friendly persons with distinct phone numbers.
+     */
+    private static List<JsonAdaptedPerson> createJsonAdaptedPersons(int count) {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            jsonAdaptedPersons.add(createJsonAdaptedPerson(String.valueOf(90000000 + i)));
+        }
+        return jsonAdaptedPersons;
+    }
+
+    /**
+     * Returns a json-friendly person that fails to convert with an unexpected {@code IllegalStateException}.
+     */
+    private static JsonAdaptedPerson createFailingJsonAdaptedPerson() {
+        Person person = new PersonBuilder().build();
+        return new JsonAdaptedPerson(person) {
+            @Override
+            public Person toModelType() {
+                throw new IllegalStateException("Unexpected error");
+            }
+        };
+    }
+
+    private static JsonAdaptedPerson createJsonAdaptedPerson(String phone) {
+        Person person = new PersonBuilder().build();
+        return new JsonAdaptedPerson(null, person.getName().fullName, person.getDateOfBirth().toString(), phone,
+                person.getEmail().value, person.getAddress().value, person.getBloodType().toString(),
+                person.getAppointment().toString(), person.getNextOfKin().toString(), List.of(), List.of(),
+                List.of());
+    }
+
+    @Test
+    public void readFrom_truncatedFile_personsOfChunksBeforeCutGiven() throws Exception {
+        String content = FileUtil.readFromFile(TYPICAL_PERSONS_FILE);
+        Path truncatedFile = Files.createTempFile("truncatedAddressBook", ".json");
+        try {
+            FileUtil.writeToFile(truncatedFile, content.substring(0, content.length() / 2));
+            List<Person> personsRead = new ArrayList<>();
+            try (JsonParser parser = JsonUtil.createParser(truncatedFile)) {
+                assertThrows(IOException.class, () ->
+                        JsonSerializableAddressBook.readFrom(parser, personsRead::add, 1));
+            }
+            assertFalse(personsRead.isEmpty());
+        } finally {
+            Files.delete(truncatedFile);
+        }
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_sameAsToModelType() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        List<Person> personsRead = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            AddressBook addressBookFromFile = JsonSerializableAddressBook.readFrom(parser, personsRead::add);
+            assertEquals(expected, addressBookFromFile);
+            assertEquals(addressBookFromFile.getPersonList(), personsRead);
+        }
+    }
+
+    @Test
+    public void readFrom_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () ->
+                    JsonSerializableAddressBook.readFrom(parser, person -> { }));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readFrom(parser, person -> { }));
+        }
+    }
+
+    @Test
+    public void readFrom_notAddressBook_throwsIoException() throws Exception {
+        Path notAddressBookFile = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+                "notJsonFormatAddressBook.json");
+        try (JsonParser parser = JsonUtil.createParser(notAddressBookFile)) {
+            assertThrows(IOException.class, () -> JsonSerializableAddressBook.readFrom(parser, person -> { }));
+        }
+    }
+
 }
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+
+public class PersonDetailsFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("details.bin");
+    }
+
+    private List<Person> persons() {
+        // not in the order of their IDs
+        return List.of(ALICE.withId(3), BENSON.withId(1), CARL.withId(7));
+    }
+
+    @Test
+    public void write_thenOpen_sameDetails() throws Exception {
+        PersonDetailsFile writtenFile = PersonDetailsFile.write(persons(), filePath(), null);
+        PersonDetailsFile openedFile = PersonDetailsFile.open(filePath());
+        for (Person person : persons()) {
+            assertEquals(person.getDetails(), writtenFile.loadDetails(person.getId()));
+            assertEquals(person.getDetails(), openedFile.loadDetails(person.getId()));
+        }
+        assertTrue(openedFile.hasDetails(7));
+        assertFalse(openedFile.hasDetails(2));
+    }
+
+    @Test
+    public void loadDetails_missingId_throwsIllegalStateException() throws Exception {
+        PersonDetailsFile.write(persons(), filePath(), null);
+        assertThrows(IllegalStateException.class, () -> PersonDetailsFile.open(filePath()).loadDetails(2));
+    }
+
+    @Test
+    public void loadDetails_manyPersons_cacheBounded() throws Exception {
+        PersonDetailsFile.write(persons(), filePath(), null);
+        PersonDetailsFile detailsFile = PersonDetailsFile.open(filePath(), 2);
+        assertSame(detailsFile.loadDetails(1), detailsFile.loadDetails(1));
+        detailsFile.loadDetails(3);
+        detailsFile.loadDetails(7);
+        assertEquals(2, detailsFile.getCachedCount());
+    }
+
+    @Test
+    public void isLoaded_onlyCachedDetails() throws Exception {
+        PersonDetailsFile.write(persons(), filePath(), null);
+        PersonDetailsFile detailsFile = PersonDetailsFile.open(filePath(), 2);
+        assertFalse(detailsFile.isLoaded(1));
+        detailsFile.loadDetails(1);
+        assertTrue(detailsFile.isLoaded(1));
+
+        detailsFile.loadDetails(3);
+        detailsFile.loadDetails(7);
+        assertFalse(detailsFile.isLoaded(1));
+    }
+
+    @Test
+    public void write_lazyPersons_entriesCopied() throws Exception {
+        PersonDetailsFile.write(persons(), filePath(), null);
+        PersonDetailsFile source = PersonDetailsFile.open(filePath());
+        List<Person> lazyPersons = persons().stream().map(person -> person.withLazyDetails(source)).toList();
+
+        Path copyFilePath = testFolder.resolve("copy.bin");
+        PersonDetailsFile.write(lazyPersons, copyFilePath, source);
+        assertEquals(0, source.getCachedCount());
+        assertTrue(Arrays.equals(Files.readAllBytes(filePath()), Files.readAllBytes(copyFilePath)));
+
+        // the persons load from the copy once the source is replaced with it
+        source.replaceWith(PersonDetailsFile.open(copyFilePath));
+        Files.delete(filePath());
+        assertEquals(ALICE.getDetails(), lazyPersons.get(0).getDetails());
+    }
+
+    @Test
+    public void open_truncatedFile_throwsIoException() throws Exception {
+        PersonDetailsFile.write(persons(), filePath(), null);
+        byte[] content = Files.readAllBytes(filePath());
+        Files.write(filePath(), Arrays.copyOf(content, content.length - 3));
+        assertThrows(IOException.class, () -> PersonDetailsFile.open(filePath()));
+    }
+
+    @Test
+    public void open_notDetailsFile_throwsIoException() throws Exception {
+        FileUtil.writeToFile(filePath(), "{ \"persons\": [] }");
+        assertThrows(IOException.class, () -> PersonDetailsFile.open(filePath()));
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    // the 7 typical persons, with IDs 1 to 7, fill segments 0 to 3
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.segments").resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    private SegmentedAddressBookStorage newStorage() {
+        return new SegmentedAddressBookStorage(filePath(), SEGMENT_SIZE);
+    }
+
+    private AddressBook readBack() throws DataLoadingException {
+        return new AddressBook(newStorage().readAddressBook().get());
+    }
+
+    private Set<String> segmentFileNames() throws Exception {
+        Set<String> fileNames = new TreeSet<>();
+        try (var files = Files.list(filePath().getParent())) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("segment-"))
+                    .forEach(fileNames::add);
+        }
+        return fileNames;
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook.segments", "manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> newStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(newStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> newStorage().saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+        assertEquals(Set.of("segment-0-1.json", "segment-1-1.json", "segment-2-1.json", "segment-3-1.json"),
+                segmentFileNames());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_editedPerson_onlyItsSegmentWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 Segment Street").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(Set.of("segment-0-2.json", "segment-1-1.json", "segment-2-1.json", "segment-3-1.json"),
+                segmentFileNames());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_removedPersons_segmentRewrittenOrDropped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(original);
+
+        original.removePerson(original.getPersonById(3).get());
+        storage.saveAddressBook(original);
+        assertEquals(Set.of("segment-0-1.json", "segment-1-2.json", "segment-2-1.json", "segment-3-1.json"),
+                segmentFileNames());
+
+        original.removePerson(original.getPersonById(4).get());
+        storage.saveAddressBook(original);
+        assertEquals(Set.of("segment-0-1.json", "segment-2-1.json", "segment-3-1.json"), segmentFileNames());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(original);
+        String manifest = Files.readString(filePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(manifest, Files.readString(filePath()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedSegmentWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+
+        SegmentedAddressBookStorage storage = newStorage();
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        loaded.addPerson(HOON);
+        storage.saveAddressBook(loaded);
+
+        assertEquals(Set.of("segment-0-1.json", "segment-1-1.json", "segment-2-1.json", "segment-3-2.json"),
+                segmentFileNames());
+        assertEquals(loaded, readBack());
+    }
+
+    @Test
+    public void readAddressBook_leftoverOfInterruptedSave_previousSaveRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        newStorage().saveAddressBook(original);
+        Files.writeString(filePath().resolveSibling("segment-0-2.json"), "{ \"persons\": [");
+        assertEquals(original, readBack());
+
+        // a full save does not trip over the leftover, and removes it
+        newStorage().saveAddressBook(original);
+        assertEquals(Set.of("segment-0-2.json", "segment-1-2.json", "segment-2-2.json", "segment-3-2.json"),
+                segmentFileNames());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath().resolveSibling("segment-1-1.json"));
+        assertThrows(DataLoadingException.class, () -> newStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath(), "{\"segmentSize\":0,\"generation\":1,\"segments\":[1]}");
+        assertThrows(DataLoadingException.class, () -> newStorage().readAddressBook());
+    }
+}
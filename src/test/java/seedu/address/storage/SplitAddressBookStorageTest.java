@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SplitAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("TempAddressBook.split").resolve(SplitAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    private Set<String> fileNames() throws Exception {
+        Set<String> fileNames = new TreeSet<>();
+        try (var files = Files.list(filePath().getParent())) {
+            files.map(file -> file.getFileName().toString()).forEach(fileNames::add);
+        }
+        return fileNames;
+    }
+
+    /**
+     * Asserts that {@code actual} holds persons equal to those of {@code expected}, with the same details.
+     */
+    private static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(new AddressBook(expected), new AddressBook(actual));
+        List<Person> expectedPersons = expected.getPersonList();
+        List<Person> actualPersons = actual.getPersonList();
+        for (int i = 0; i < expectedPersons.size(); i++) {
+            assertEquals(expectedPersons.get(i).getDetails(), actualPersons.get(i).getDetails());
+        }
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook.split", "manifest.json"),
+                SplitAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SplitAddressBookStorage(filePath()).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new SplitAddressBookStorage(filePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SplitAddressBookStorage(filePath()).saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new SplitAddressBookStorage(filePath()).saveAddressBook(original);
+        assertEquals(Set.of("details-1.bin", "manifest.json", "persons-1.json", "persons-1.json.checksum"),
+                fileNames());
+        assertSameData(original, new SplitAddressBookStorage(filePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_detailsLoadedOnDemand() throws Exception {
+        newStorageWithTypicalPersons();
+        ReadOnlyAddressBook readBack = new SplitAddressBookStorage(filePath()).readAddressBook().get();
+
+        Files.delete(SplitAddressBookStorage.getDetailsFilePath(filePath(), 1));
+        Person person = readBack.getPersonList().get(0);
+        assertEquals(getTypicalAddressBook().getPersonList().get(0), person);
+        assertThrows(IllegalStateException.class, person::getNextOfKin);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_readPersonsLoadFromNewFiles() throws Exception {
+        newStorageWithTypicalPersons();
+        SplitAddressBookStorage storage = new SplitAddressBookStorage(filePath());
+        AddressBook loaded = new AddressBook(storage.readAddressBook().get());
+        Person editedBenson = new PersonBuilder(BENSON).withNextOfKin("Jane 81234567")
+                .withMedicalHistory("Asthma").build();
+        loaded.setPerson(BENSON, editedBenson);
+        loaded.addPerson(HOON);
+        storage.saveAddressBook(loaded);
+
+        assertEquals(Set.of("details-2.bin", "manifest.json", "persons-2.json", "persons-2.json.checksum"),
+                fileNames());
+        // the persons read before the save, with their details not loaded, load them from the new details file
+        assertEquals(getTypicalAddressBook().getPersonList().get(0).getDetails(),
+                loaded.getPersonList().get(0).getDetails());
+        assertSameData(loaded, new SplitAddressBookStorage(filePath()).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingDetailsFile_throwsDataLoadingException() throws Exception {
+        newStorageWithTypicalPersons();
+        Files.delete(SplitAddressBookStorage.getDetailsFilePath(filePath(), 1));
+        assertThrows(DataLoadingException.class, () -> new SplitAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        newStorageWithTypicalPersons();
+        Files.writeString(filePath(), "{\"generation\":0}");
+        assertThrows(DataLoadingException.class, () -> new SplitAddressBookStorage(filePath()).readAddressBook());
+    }
+
+    private void newStorageWithTypicalPersons() throws Exception {
+        new SplitAddressBookStorage(filePath()).saveAddressBook(getTypicalAddressBook());
+    }
+}
@@ -2,9 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +21,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -65,4 +73,121 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind() throws Exception {
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorageManager.saveAddressBook(original);
+        writeBehindStorageManager.flushAddressBook();
+        ReadOnlyAddressBook retrieved = writeBehindStorageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindWhileWriting_onlyNewestWritten() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        List<List<Person>> savedPersons = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                savedPersons.add(new ArrayList<>(addressBook.getPersonList()));
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorageManager.saveAddressBook(addressBook);
+        firstSaveStarted.await();
+        for (Person person : getTypicalAddressBook().getPersonList()) {
+            addressBook.addPerson(person);
+            writeBehindStorageManager.saveAddressBook(addressBook);
+        }
+        List<Person> newestPersons = new ArrayList<>(addressBook.getPersonList());
+        // the snapshots taken must not see later changes
+        addressBook.removePerson(ALICE);
+        firstSaveReleased.countDown();
+        writeBehindStorageManager.flushAddressBook();
+
+        assertEquals(List.of(List.of(), newestPersons), savedPersons);
+    }
+
+    @Test
+    public void flushAddressBook_writeBehindSaveFailed_throwsIoExceptionOnce() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        writeBehindStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "dummy IO exception", writeBehindStorageManager::flushAddressBook);
+        writeBehindStorageManager.checkAddressBookSaved();
+    }
+
+    @Test
+    public void flushAddressBook_writeBehindSaveThrewRuntimeException_throwsIoException() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IllegalStateException("dummy runtime exception");
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        writeBehindStorageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, "dummy runtime exception", writeBehindStorageManager::flushAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindAfterFailedSave_stillWritesSnapshot() throws Exception {
+        boolean[] isFailing = {true};
+        List<List<Person>> savedPersons = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (isFailing[0]) {
+                    isFailing[0] = false;
+                    throw new IOException("dummy IO exception");
+                }
+                savedPersons.add(new ArrayList<>(addressBook.getPersonList()));
+            }
+        };
+        StorageManager writeBehindStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        writeBehindStorageManager.saveAddressBook(new AddressBook());
+        // saves ever larger address books until one of the saves reports the failure of the first
+        AddressBook addressBook = new AddressBook();
+        boolean isFailureReported = false;
+        for (Person person : getTypicalAddressBook().getPersonList()) {
+            addressBook.addPerson(person);
+            try {
+                writeBehindStorageManager.saveAddressBook(addressBook);
+                Thread.sleep(10);
+            } catch (IOException e) {
+                isFailureReported = true;
+                break;
+            }
+        }
+        writeBehindStorageManager.flushAddressBook();
+
+        assertTrue(isFailureReported);
+        // the save that reported the failure was still written
+        assertEquals(addressBook.getPersonList(), savedPersons.get(savedPersons.size() - 1));
+    }
+
 }
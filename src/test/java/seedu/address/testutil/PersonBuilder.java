@@ -171,4 +171,12 @@ public class PersonBuilder {
         return new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin, medicalHistory);
     }
 
+    /**
+     * Builds the {@code Person} together with the checkups set through {@link #withCheckups(String...)}.
+     */
+    public Person buildWithCheckups() {
+        return new Person(name, dob, phone, email, address, bloodType, appointment, tags, nextOfKin, medicalHistory,
+                checkups);
+    }
+
 }